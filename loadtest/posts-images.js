@@ -0,0 +1,72 @@
+// 가상 스레드 / 플랫폼 스레드 요청 처리 비교용 k6 부하 테스트
+//
+// 1) VIRTUAL_THREADS_ENABLED=false 로 서버 실행 후:
+//    k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... --tag mode=platform loadtest/posts-images.js
+// 2) VIRTUAL_THREADS_ENABLED=true 로 서버 실행 후 같은 명령을 --tag mode=virtual 로 실행해 결과를 비교한다.
+//
+// 업로드할 이미지는 -e IMAGE=<경로> 로 반드시 지정한다. (예: -e IMAGE=./photo.jpg, 10MB 이하 jpeg/png)
+//
+// 시나리오별 지연시간(p95/p99)과 처리량, 그리고 서버의 jvm.threads.virtual.pinned / endpoint.jdbc.time 메트릭을 함께 본다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+if (!__ENV.IMAGE) {
+  throw new Error('업로드할 이미지 경로를 -e IMAGE=<경로> 로 지정해야 합니다.');
+}
+const IMAGE = open(__ENV.IMAGE, 'b');
+
+export const options = {
+  scenarios: {
+    posts: {
+      executor: 'ramping-arrival-rate',
+      exec: 'getPosts',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+      stages: [
+        { target: 300, duration: '1m' },
+        { target: 300, duration: '2m' },
+      ],
+    },
+    images: {
+      executor: 'constant-arrival-rate',
+      exec: 'uploadImages',
+      rate: 20,
+      timeUnit: '1s',
+      duration: '3m',
+      preAllocatedVUs: 100,
+      maxVUs: 400,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:posts}': ['p(95)<300'],
+    'http_req_duration{scenario:images}': ['p(95)<2000'],
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/auth/signin`,
+      JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+      { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'signin 200': (r) => r.status === 200 });
+  return { token: res.json('accessToken') };
+}
+
+export function getPosts(data) {
+  const res = http.get(`${BASE_URL}/posts/my?page=0&size=10`, {
+    headers: { Authorization: `Bearer ${data.token}` },
+  });
+  check(res, { 'posts 200': (r) => r.status === 200 });
+}
+
+export function uploadImages(data) {
+  const res = http.post(`${BASE_URL}/images`, {
+    files: http.file(IMAGE, 'sample.jpg', 'image/jpeg'),
+  }, {
+    headers: { Authorization: `Bearer ${data.token}` },
+  });
+  check(res, { 'images 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,78 @@
+package svsite.matzip.foody.global.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 인증 경로의 JWT 발급/검증 처리량. rebuildParserPerValidation은 검증마다 파서를 새로 만들던 이전 방식,
+// validateTokenUncached는 검증 캐시를 끈 경우와의 비교용.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtUtilBenchmark {
+
+  private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+  private JwtUtil jwtUtil;
+  private JwtUtil uncachedJwtUtil;
+  private Key signingKey;
+  private String accessToken;
+
+  @Setup
+  public void setup() {
+    byte[] secret = new byte[32];
+    new Random(42).nextBytes(secret);
+    signingKey = Keys.hmacShaKeyFor(secret);
+    String encodedSecret = Base64.getEncoder().encodeToString(secret);
+    jwtUtil = new JwtUtil(encodedSecret, ONE_HOUR, ONE_HOUR, 10_000, new SimpleMeterRegistry());
+    uncachedJwtUtil = new JwtUtil(encodedSecret, ONE_HOUR, ONE_HOUR, 0, new SimpleMeterRegistry());
+    accessToken = jwtUtil.generateAccessToken(payload());
+  }
+
+  @Benchmark
+  public Claims validateToken() {
+    return jwtUtil.validateToken(accessToken);
+  }
+
+  @Benchmark
+  public Claims validateTokenUncached() {
+    return uncachedJwtUtil.validateToken(accessToken);
+  }
+
+  @Benchmark
+  public Claims rebuildParserPerValidation() {
+    return Jwts.parserBuilder()
+        .setSigningKey(signingKey)
+        .build()
+        .parseClaimsJws(accessToken)
+        .getBody();
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtUtil.generateAccessToken(payload());
+  }
+
+  private Map<String, Object> payload() {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("userId", 1L);
+    payload.put("email", "test@example.com");
+    return payload;
+  }
+}
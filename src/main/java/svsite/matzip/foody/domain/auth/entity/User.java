@@ -90,7 +90,7 @@ public class User extends BaseEntity {
   public boolean equals(Object o) {
     if (this == o) return true;
     if(!(o instanceof User user)) return false;
-    return id != null && id.equals(user.id);
+    return getId() != null && getId().equals(user.getId());  // 프록시는 필드가 비어 있으므로 getter로 비교
   }
   @Override
   public int hashCode() {
@@ -101,6 +101,10 @@ public class User extends BaseEntity {
     this.hashedRefreshToken = hashedRefreshToken;
   }
 
+  public void updatePassword(String hashedPassword) {
+    this.password = hashedPassword;
+  }
+
   public void editProfile(EditProfileDto profileDto) {
     this.nickname = profileDto.nickname();
     this.imageUri = profileDto.imageUri();
@@ -1,6 +1,7 @@
 package svsite.matzip.foody.domain.auth.service;
 
 import static svsite.matzip.foody.global.constant.Constant.EMAIL;
+import static svsite.matzip.foody.global.constant.Constant.USER_ID;
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.USER_WRONG_PASSWORD;
 
 import java.util.HashMap;
@@ -16,6 +17,13 @@ import svsite.matzip.foody.domain.auth.api.dto.response.ProfileResponseDto;
 import svsite.matzip.foody.domain.auth.api.dto.response.TokenResponseDto;
 import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.auth.repository.UserRepository;
+import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.image.repository.ImageRepository;
+import svsite.matzip.foody.domain.post.cache.MarkerCache;
+import svsite.matzip.foody.domain.post.repository.PostDailyActivityRepository;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.global.auth.AuthenticatedUserCache;
+import svsite.matzip.foody.global.auth.RefreshTokenHasher;
 import svsite.matzip.foody.global.exception.errorCode.ErrorCodes;
 import svsite.matzip.foody.global.exception.support.CustomException;
 import svsite.matzip.foody.global.util.jwt.JwtUtil;
@@ -27,7 +35,14 @@ public class AuthService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final RefreshTokenHasher refreshTokenHasher;
   private final JwtUtil jwtUtil;
+  private final AuthenticatedUserCache authenticatedUserCache;
+  private final PostRepository postRepository;
+  private final ImageRepository imageRepository;
+  private final FavoriteRepository favoriteRepository;
+  private final PostDailyActivityRepository postDailyActivityRepository;
+  private final MarkerCache markerCache;
 
   @Transactional
   public Long signup(AuthRequestDto authRequestDto) {
@@ -48,14 +63,19 @@ public class AuthService {
     if (!passwordEncoder.matches(authRequestDto.password(), user.getPassword())) {
       throw new CustomException(USER_WRONG_PASSWORD);
     }
-    TokenResponseDto tokenDto = getTokens(authRequestDto.email());
+    // 이전 비용이나 알고리즘으로 저장된 비밀번호는 평문을 알고 있는 로그인 시점에 다시 해시한다.
+    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+      user.updatePassword(passwordEncoder.encode(authRequestDto.password()));
+    }
+    TokenResponseDto tokenDto = getTokens(user.getId(), authRequestDto.email());
     updateHashedRefreshToken(user, tokenDto.refreshToken());
     return tokenDto;
   }
 
   @Transactional
-  public TokenResponseDto getTokens(String email) {
+  public TokenResponseDto getTokens(Long userId, String email) {
     Map<String, Object> payload = new HashMap<>();
+    payload.put(USER_ID, userId);
     payload.put(EMAIL, email);
     String accessToken = jwtUtil.generateAccessToken(payload);
     String refreshToken = jwtUtil.generateRefreshToken(payload);
@@ -63,13 +83,13 @@ public class AuthService {
   }
 
   private void updateHashedRefreshToken(User user, String refreshToken) {
-    String hashedRefreshToken = passwordEncoder.encode(refreshToken);
+    String hashedRefreshToken = refreshTokenHasher.hash(refreshToken);
     user.updateHashedRefreshToken(hashedRefreshToken);
   }
 
   @Transactional
   public TokenResponseDto refreshToken(User user) {
-    TokenResponseDto tokenDto = getTokens(user.getEmail());
+    TokenResponseDto tokenDto = getTokens(user.getId(), user.getEmail());
     updateHashedRefreshToken(user, tokenDto.refreshToken());
     return tokenDto;
   }
@@ -77,6 +97,7 @@ public class AuthService {
   @Transactional
   public long deleteRefreshToken(User user) {
     user.updateHashedRefreshToken(null);
+    authenticatedUserCache.evictAfterCommit(user.getEmail());
     return user.getId();
   }
 
@@ -88,18 +109,27 @@ public class AuthService {
   @Transactional
   public ProfileResponseDto editProfile(EditProfileDto editProfileDto, User user) {
     user.editProfile(editProfileDto);
+    authenticatedUserCache.evictAfterCommit(user.getEmail());
     return ProfileResponseDto.from(user);
   }
 
   @Transactional
   public long deleteAccount(User user) {
+    // 툼스톤까지 포함해 사용자를 참조하는 행을 자식부터 지운다.
+    favoriteRepository.deleteAllByUserOrPostOwner(user);
+    imageRepository.deleteAllByPostOwner(user);
+    postRepository.deleteAllByUser(user);
+    postDailyActivityRepository.deleteAllByUser(user);
     userRepository.delete(user);
+    authenticatedUserCache.evictAfterCommit(user.getEmail());
+    markerCache.evictAfterCommit(user.getId());
     return user.getId();
   }
 
   @Transactional
   public ProfileResponseDto updateCategory(UpdateCategoryDto categories, User user) {
     user.updateCategory(categories);
+    authenticatedUserCache.evictAfterCommit(user.getEmail());
     return ProfileResponseDto.from(user);
   }
 }
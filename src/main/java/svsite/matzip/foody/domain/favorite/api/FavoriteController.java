@@ -6,6 +6,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,6 +24,7 @@ import svsite.matzip.foody.domain.favorite.api.response.ToggleFavoriteResponseDt
 import svsite.matzip.foody.domain.favorite.service.FavoriteService;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
 import svsite.matzip.foody.global.auth.AuthenticatedUser;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
 
 @Tag(name = "Favorite", description = "게시글 즐겨찾기 API")
 @RequestMapping("/favorites")
@@ -72,4 +75,29 @@ public class FavoriteController {
     return ResponseEntity.ok()
         .body(favoriteService.getMyFavoritePosts(PageRequest.of(page, size), user));
   }
+
+  @Operation(
+      summary = "내 즐겨찾기 게시글 목록 커서 조회",
+      description = "즐겨찾기한 게시글을 즐겨찾기한 순서의 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 "
+          + "이어서 조회합니다. 전체 개수가 필요할 때만 withTotal=true 로 요청하세요.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "즐겨찾기 목록 조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 유효하지 않은 커서")
+  })
+  @GetMapping("/my/scroll")
+  public ResponseEntity<CursorPageResponseDto<PostResponseDto>> scrollMyFavoritePosts(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(description = "페이지 당 게시글 개수 (1~100)", example = "10")
+      @RequestParam(defaultValue = "10") @Positive @Max(100) int size,
+      @Parameter(description = "전체 즐겨찾기 수 포함 여부", example = "false")
+      @RequestParam(defaultValue = "false") boolean withTotal,
+      @AuthenticatedUser User user
+  ) {
+    return ResponseEntity.ok()
+        .body(favoriteService.scrollMyFavoritePosts(cursor, size, withTotal, user));
+  }
 }
@@ -25,7 +25,7 @@ import svsite.matzip.foody.global.entity.BaseEntity;
 @Table(name = "favorite",
     uniqueConstraints = @UniqueConstraint(name = "uk_favorite_user_post", columnNames = {"user_id", "post_id"}),
     indexes = {
-        @Index(name = "idx_favorite_user", columnList = "user_id"),
+        @Index(name = "idx_favorite_user_created_at_id", columnList = "user_id, created_at, id"),
         @Index(name = "idx_favorite_post", columnList = "post_id")
     })
 @Getter
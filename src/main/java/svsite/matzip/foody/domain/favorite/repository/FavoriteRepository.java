@@ -1,22 +1,71 @@
 package svsite.matzip.foody.domain.favorite.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.favorite.entity.Favorite;
+import svsite.matzip.foody.domain.favorite.repository.dto.FavoritePostQueryDto;
 import svsite.matzip.foody.domain.post.entity.Post;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     Optional<Favorite> findByPostAndUser(Post post, User user);
 
-    @Query("SELECT f FROM Favorite f " +
-            "JOIN FETCH f.post p " +
-            "LEFT JOIN FETCH p.images i " +
+    @Query(value = "SELECT p.id FROM Favorite f " +
+            "JOIN f.post p " +
             "WHERE f.user = :user " +
-            "ORDER BY p.date DESC")
-    Page<Favorite> findFavoritesByUser(@Param("user") User user, Pageable pageable);
+            "AND p.deletedAt IS NULL " +
+            "ORDER BY p.date DESC, p.id DESC",
+            countQuery = "SELECT COUNT(f) FROM Favorite f " +
+                "WHERE f.user = :user " +
+                "AND f.post.deletedAt IS NULL")
+    Page<Long> findFavoritePostIdPage(@Param("user") User user, Pageable pageable);
+
+    // 커서 조회는 즐겨찾기한 순서(최신순)로 정렬해 (user_id, created_at, id) 인덱스를 그대로 따라가게 한다.
+    @Query("SELECT new svsite.matzip.foody.domain.favorite.repository.dto.FavoritePostQueryDto(" +
+            "f.id, " +
+            "f.createdAt, " +
+            "p.id) " +
+            "FROM Favorite f " +
+            "JOIN f.post p " +
+            "WHERE f.user = :user " +
+            "AND p.deletedAt IS NULL " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FavoritePostQueryDto> findFavoritePosts(@Param("user") User user, Pageable pageable);
+
+    @Query("SELECT new svsite.matzip.foody.domain.favorite.repository.dto.FavoritePostQueryDto(" +
+            "f.id, " +
+            "f.createdAt, " +
+            "p.id) " +
+            "FROM Favorite f " +
+            "JOIN f.post p " +
+            "WHERE f.user = :user " +
+            "AND p.deletedAt IS NULL " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FavoritePostQueryDto> findFavoritePostsAfter(@Param("user") User user,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Pageable pageable);
+
+    @Query("SELECT COUNT(f) FROM Favorite f " +
+            "WHERE f.user = :user " +
+            "AND f.post.deletedAt IS NULL")
+    long countActiveByUser(@Param("user") User user);
+
+    // 탈퇴한 사용자가 누른 즐겨찾기와 그 사용자의 게시글에 걸린 즐겨찾기를 함께 지운다.
+    @Modifying
+    @Query("DELETE FROM Favorite f " +
+            "WHERE f.user = :user " +
+            "OR f.post IN (SELECT p FROM Post p WHERE p.user = :user)")
+    void deleteAllByUserOrPostOwner(@Param("user") User user);
+
+    @Modifying
+    @Query("DELETE FROM Favorite f " +
+            "WHERE f.post IN (SELECT p FROM Post p WHERE p.deletedAt < :cutoff)")
+    int deleteAllOfPostsDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
 }
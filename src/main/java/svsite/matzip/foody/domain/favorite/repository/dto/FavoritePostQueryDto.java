@@ -0,0 +1,18 @@
+package svsite.matzip.foody.domain.favorite.repository.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FavoritePostQueryDto {
+  private Long favoriteId;
+  private LocalDateTime favoritedAt;
+  private Long postId;
+}
@@ -2,9 +2,16 @@ package svsite.matzip.foody.domain.favorite.service;
 
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.POST_NOT_FOUND;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,10 +19,13 @@ import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.favorite.api.response.ToggleFavoriteResponseDto;
 import svsite.matzip.foody.domain.favorite.entity.Favorite;
 import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.favorite.repository.dto.FavoritePostQueryDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
 import svsite.matzip.foody.domain.post.entity.Post;
 import svsite.matzip.foody.domain.post.repository.PostRepository;
 import svsite.matzip.foody.global.exception.support.CustomException;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
+import svsite.matzip.foody.global.util.pagination.DateIdCursor;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +34,7 @@ public class FavoriteService {
     private final PostRepository postRepository;
 
     public ToggleFavoriteResponseDto toggleFavorite(long postId, User user) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findActiveById(postId)
             .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
         Optional<Favorite> existingFavorite = favoriteRepository.findByPostAndUser(post, user);
@@ -44,7 +54,38 @@ public class FavoriteService {
 
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getMyFavoritePosts(Pageable pageable, User user) {
-        return favoriteRepository.findFavoritesByUser(user, pageable)
-            .map(favorite -> PostResponseDto.fromWithFavorite(favorite.getPost(), true));
+        Page<Long> postIds = favoriteRepository.findFavoritePostIdPage(user, pageable);
+        return new PageImpl<>(findFavoritePostsInOrder(postIds.getContent()), pageable,
+            postIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostResponseDto> scrollMyFavoritePosts(String cursor, int size,
+        boolean withTotal, User user) {
+        DateIdCursor after = DateIdCursor.decode(cursor);  // 즐겨찾기한 시각과 즐겨찾기 id
+        PageRequest limit = PageRequest.of(0, size + 1);  // 다음 페이지 여부 확인용으로 하나 더 조회
+        List<FavoritePostQueryDto> favorites = after == null
+            ? favoriteRepository.findFavoritePosts(user, limit)
+            : favoriteRepository.findFavoritePostsAfter(user, after.date(), after.id(), limit);
+        Long total = withTotal ? favoriteRepository.countActiveByUser(user) : null;
+
+        CursorPageResponseDto<FavoritePostQueryDto> page = CursorPageResponseDto.of(favorites, size,
+            favorite -> new DateIdCursor(favorite.getFavoritedAt(), favorite.getFavoriteId()), total);
+        List<Long> postIds = page.content().stream().map(FavoritePostQueryDto::getPostId).toList();
+        return new CursorPageResponseDto<>(findFavoritePostsInOrder(postIds), page.nextCursor(),
+            page.hasNext(), page.totalElements());
+    }
+
+    private List<PostResponseDto> findFavoritePostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllWithImagesByIdIn(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+            .map(posts::get)
+            .filter(Objects::nonNull)
+            .map(post -> PostResponseDto.fromWithFavorite(post, true))
+            .toList();
     }
 }
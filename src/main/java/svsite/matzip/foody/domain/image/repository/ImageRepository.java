@@ -1,7 +1,22 @@
 package svsite.matzip.foody.domain.image.repository;
 
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.image.entity.Image;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
+
+  @Modifying
+  @Query("DELETE FROM Image i " +
+      "WHERE i.post IN (SELECT p FROM Post p WHERE p.user = :user)")
+  void deleteAllByPostOwner(@Param("user") User user);
+
+  @Modifying
+  @Query("DELETE FROM Image i " +
+      "WHERE i.post IN (SELECT p FROM Post p WHERE p.deletedAt < :cutoff)")
+  int deleteAllOfPostsDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
 }
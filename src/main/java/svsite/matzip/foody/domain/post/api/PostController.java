@@ -11,18 +11,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -30,12 +38,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.converter.MarkersBinaryHttpMessageConverter;
 import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.request.MarkerBoundsDto;
+import svsite.matzip.foody.domain.post.api.dto.request.NearbySearchDto;
 import svsite.matzip.foody.domain.post.api.dto.request.UpdatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.response.CalendarDayResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.DailyActivityResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerChangesResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.search.SearchMode;
+import svsite.matzip.foody.domain.post.service.PostActivityService;
 import svsite.matzip.foody.domain.post.service.PostService;
+import svsite.matzip.foody.global.auth.AuthPrincipal;
 import svsite.matzip.foody.global.auth.AuthenticatedUser;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
 
 @Tag(name = "Post", description = "맛집 게시글 관련 API")
 @RestController
@@ -43,13 +63,88 @@ import svsite.matzip.foody.global.auth.AuthenticatedUser;
 public class PostController {
 
   private final PostService postService;
+  private final PostActivityService postActivityService;
 
   @Operation(summary = "내가 등록한 맛집 마커 리스트 조회"
-      , description = "사용자가 등록한 모든 맛집 좌표(마커)를 조회합니다."
+      , description = "사용자가 등록한 모든 맛집 좌표(마커)를 조회합니다. "
+      + "Accept: application/vnd.foody.markers 로 요청하면 압축된 바이너리 형식으로 응답합니다."
       , security = @SecurityRequirement(name = "bearerAuth"))
-  @GetMapping("/markers/my")
-  public ResponseEntity<List<MarkersResponseDto>> getAllMarkers(@AuthenticatedUser User user) {
-    return ResponseEntity.status(OK).body(postService.getAllMarkers(user));
+  @GetMapping(value = "/markers/my",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MarkersBinaryHttpMessageConverter.MEDIA_TYPE_VALUE})
+  public ResponseEntity<List<MarkersResponseDto>> getAllMarkers(
+      @AuthenticatedUser AuthPrincipal principal) {
+    return ResponseEntity.status(OK).body(postService.getAllMarkers(principal));
+  }
+
+  @Operation(summary = "마지막 동기화 이후 변경된 내 맛집 마커 조회"
+      , description = "since 이후 추가/수정된 마커와 삭제된 마커 ID를 조회합니다. "
+      + "응답의 watermark를 다음 요청의 since로 전달하면 변경분만 받을 수 있습니다. since가 없거나 30일보다 오래되면 "
+      + "전체 마커를 fullSync=true로 반환합니다. 직전 구간의 변경이 다시 포함될 수 있으므로 같은 ID는 덮어씁니다."
+      , security = @SecurityRequirement(name = "bearerAuth"))
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "변경 마커 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/markers/my/changes")
+  public ResponseEntity<MarkerChangesResponseDto> getMarkerChanges(
+      @Parameter(description = "마지막으로 받은 서버 워터마크 (ISO-8601)", example = "2025-02-08T12:00:00")
+      @RequestParam(value = "since", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+      @AuthenticatedUser User user) {
+    return ResponseEntity.status(OK).body(postService.getMarkerChanges(since, user));
+  }
+
+  @Operation(summary = "지도 화면 영역 안의 내 맛집 마커 조회"
+      , description = "사용자가 등록한 맛집 마커 중 요청한 위경도 범위(바운딩 박스) 안에 있는 마커만 조회합니다."
+      , security = @SecurityRequirement(name = "bearerAuth"))
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "마커 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/markers/my/bounds")
+  public ResponseEntity<List<MarkersResponseDto>> getMarkersInBounds(
+      @ParameterObject @ModelAttribute @Valid MarkerBoundsDto bounds,
+      @AuthenticatedUser User user) {
+    return ResponseEntity.status(OK).body(postService.getMarkersInBounds(bounds, user));
+  }
+
+  @Operation(summary = "지도 화면 영역의 내 맛집 마커 클러스터 조회"
+      , description = "줌 레벨에 맞는 geohash 셀 단위로 마커를 묶어 개수, 중심 좌표, 대표 색상, 평균 점수를 조회합니다."
+      , security = @SecurityRequirement(name = "bearerAuth"))
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "클러스터 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/markers/my/clusters")
+  public ResponseEntity<List<MarkerClusterResponseDto>> getMarkerClusters(
+      @Parameter(description = "지도 줌 레벨 (0~21)", example = "10", required = true)
+      @RequestParam("zoom") @Min(0) @Max(21) int zoom,
+      @ParameterObject @ModelAttribute @Valid MarkerBoundsDto bounds,
+      @AuthenticatedUser User user) {
+    return ResponseEntity.status(OK).body(postService.getMarkerClusters(bounds, zoom, user));
+  }
+
+  @Operation(summary = "내 주변 맛집 마커 조회"
+      , description = "사용자가 등록한 맛집 중 기준 위치에서 반경 안에 있는 마커를 가까운 순으로 페이지 단위로 조회합니다."
+      , security = @SecurityRequirement(name = "bearerAuth"))
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "주변 마커 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/markers/my/nearby")
+  public ResponseEntity<Page<NearbyMarkerResponseDto>> getNearbyMarkers(
+      @ParameterObject @ModelAttribute @Valid NearbySearchDto search,
+      @Parameter(description = "조회할 페이지 번호 (0부터 시작)", example = "0")
+      @RequestParam(defaultValue = "0") @PositiveOrZero int page,
+      @Parameter(description = "페이지 당 마커 개수 (1~100)", example = "20")
+      @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+      @AuthenticatedUser User user) {
+    return ResponseEntity.status(OK)
+        .body(postService.getNearbyMarkers(search, PageRequest.of(page, size), user));
   }
 
   @Operation(summary = "맛집 위치 및 설명에 대한 글을 등록"
@@ -107,9 +202,33 @@ public class PostController {
       @RequestParam(defaultValue = "0") @PositiveOrZero int page,
       @Parameter(description = "페이지 당 게시글 개수", example = "10")
       @RequestParam(defaultValue = "10") @PositiveOrZero int size,
+      @AuthenticatedUser AuthPrincipal principal
+  ) {
+    return ResponseEntity.ok(postService.getPosts(PageRequest.of(page, size), principal));
+  }
+
+  @Operation(
+      summary = "내가 등록한 맛집 게시글 목록 커서 조회",
+      description = "방문 날짜 최신순으로 게시글을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 "
+          + "이어서 조회합니다. 전체 개수가 필요할 때만 withTotal=true 로 요청하세요.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 유효하지 않은 커서"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/posts/my/scroll")
+  public ResponseEntity<CursorPageResponseDto<PostResponseDto>> scrollPosts(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(description = "페이지 당 게시글 개수 (1~100)", example = "10")
+      @RequestParam(defaultValue = "10") @Positive @Max(100) int size,
+      @Parameter(description = "전체 게시글 수 포함 여부", example = "false")
+      @RequestParam(defaultValue = "false") boolean withTotal,
       @AuthenticatedUser User user
   ) {
-    return ResponseEntity.ok(postService.getPosts(PageRequest.of(page, size), user));
+    return ResponseEntity.ok(postService.scrollPosts(cursor, size, withTotal, user));
   }
 
   @Operation(
@@ -146,14 +265,94 @@ public class PostController {
   @GetMapping("/posts")
   public Map<Integer, List<PostResponseDto>> getPostsByMonth(
       @Parameter(description = "조회할 연도 (YYYY 형식)", example = "2025", required = true)
-      @RequestParam("year") int year,
+      @RequestParam("year") @Min(1) @Max(9999) int year,
       @Parameter(description = "조회할 월 (1~12)", example = "2", required = true)
-      @RequestParam("month") int month,
+      @RequestParam("month") @Min(1) @Max(12) int month,
       @AuthenticatedUser User user
   ) {
     return postService.getPostsByMonth(year, month, user);
   }
 
+  @Operation(
+      summary = "해당 연월의 캘린더 요약 조회",
+      description = "게시글이 있는 일자별로 게시글 수, 마커 색상, 최고 점수만 조회합니다. "
+          + "일자의 게시글 목록은 /posts/day 로 조회합니다.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "캘린더 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/posts/calendar")
+  public ResponseEntity<List<CalendarDayResponseDto>> getCalendar(
+      @Parameter(description = "조회할 연도 (YYYY 형식)", example = "2025", required = true)
+      @RequestParam("year") @Min(1) @Max(9999) int year,
+      @Parameter(description = "조회할 월 (1~12)", example = "2", required = true)
+      @RequestParam("month") @Min(1) @Max(12) int month,
+      @AuthenticatedUser User user
+  ) {
+    return ResponseEntity.status(OK).body(postService.getCalendar(year, month, user));
+  }
+
+  @Operation(
+      summary = "월간 활동 히트맵 조회",
+      description = "해당 연월에 게시글이 있는 일자별 게시글 수, 평균 점수, 색상별 개수를 미리 집계된 값으로 조회합니다.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "활동 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/posts/activity/month")
+  public ResponseEntity<List<DailyActivityResponseDto>> getMonthActivity(
+      @Parameter(description = "조회할 연도 (YYYY 형식)", example = "2025", required = true)
+      @RequestParam("year") @Min(1) @Max(9999) int year,
+      @Parameter(description = "조회할 월 (1~12)", example = "2", required = true)
+      @RequestParam("month") @Min(1) @Max(12) int month,
+      @AuthenticatedUser User user
+  ) {
+    return ResponseEntity.status(OK).body(postActivityService.getMonthActivity(year, month, user));
+  }
+
+  @Operation(
+      summary = "연간 활동 히트맵 조회",
+      description = "해당 연도에 게시글이 있는 일자별 게시글 수, 평균 점수, 색상별 개수를 미리 집계된 값으로 조회합니다.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "활동 조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/posts/activity/year")
+  public ResponseEntity<List<DailyActivityResponseDto>> getYearActivity(
+      @Parameter(description = "조회할 연도 (YYYY 형식)", example = "2025", required = true)
+      @RequestParam("year") @Min(1) @Max(9999) int year,
+      @AuthenticatedUser User user
+  ) {
+    return ResponseEntity.status(OK).body(postActivityService.getYearActivity(year, user));
+  }
+
+  @Operation(
+      summary = "특정 일자의 맛집 게시글 목록 조회",
+      description = "캘린더에서 선택한 일자에 방문한 게시글을 이미지와 함께 조회합니다.",
+      security = @SecurityRequirement(name = "bearerAuth")
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "401", description = "인증 실패")
+  })
+  @GetMapping("/posts/day")
+  public ResponseEntity<List<PostResponseDto>> getPostsByDate(
+      @Parameter(description = "조회할 일자 (yyyy-MM-dd)", example = "2025-02-14", required = true)
+      @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @AuthenticatedUser User user
+  ) {
+    return ResponseEntity.status(OK).body(postService.getPostsByDate(date, user));
+  }
+
   @Operation(
       summary = "게시글 제목 또는 주소 검색",
       description = "사용자가 등록한 맛집 게시글 중 제목이나 주소에 특정 문자열이 포함된 게시글을 페이지 단위로 조회합니다.",
@@ -173,8 +372,13 @@ public class PostController {
       @RequestParam(defaultValue = "0") @PositiveOrZero int page,
       @Parameter(description = "페이지 당 게시글 개수 (1 이상)", example = "10")
       @RequestParam(defaultValue = "10") @Positive int size,
+      @Parameter(description = "검색 방식 (LIKE: 제목/주소 부분 일치 최신순, RANKED: 제목/주소/설명 관련도순)", example = "LIKE")
+      @RequestParam(defaultValue = "LIKE") SearchMode mode,
       @AuthenticatedUser User user
   ) {
+    if (mode == SearchMode.RANKED) {
+      return postService.searchMyPostsRanked(query, PageRequest.of(page, size), user);
+    }
     Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "date"));
     return postService.searchMyPostsByTitleAndAddress(pageable, query, user);
   }
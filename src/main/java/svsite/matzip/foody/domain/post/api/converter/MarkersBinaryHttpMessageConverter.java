@@ -0,0 +1,97 @@
+package svsite.matzip.foody.domain.post.api.converter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+
+/**
+ * 마커 목록을 압축된 바이너리 형식으로 직렬화한다. (Accept: application/vnd.foody.markers)
+ *
+ * <pre>
+ * byte    version (1)
+ * varint  마커 수
+ * 마커마다:
+ *   varint  id
+ *   int32   위도 (소수점 6자리 고정소수점, big-endian)
+ *   int32   경도 (소수점 6자리 고정소수점, big-endian)
+ *   byte    색상 ordinal (0xFF = 없음)
+ *   varint  점수 + 1 (0 = 없음)
+ * </pre>
+ */
+public class MarkersBinaryHttpMessageConverter
+    extends AbstractGenericHttpMessageConverter<List<MarkersResponseDto>> {
+
+  public static final String MEDIA_TYPE_VALUE = "application/vnd.foody.markers";
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+  static final int VERSION = 1;
+  static final int NO_COLOR = 0xFF;
+
+  public MarkersBinaryHttpMessageConverter() {
+    super(MEDIA_TYPE);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return List.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return false;
+  }
+
+  // List<MarkersResponseDto> 외의 List 응답은 다른 컨버터가 처리하도록 제네릭 타입까지 확인한다.
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    ResolvableType resolved = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+    return List.class.isAssignableFrom(resolved.toClass())
+        && MarkersResponseDto.class.equals(resolved.asCollection().resolveGeneric(0))
+        && canWrite(mediaType);
+  }
+
+  @Override
+  protected void writeInternal(List<MarkersResponseDto> markers, Type type,
+      HttpOutputMessage outputMessage) throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+    out.writeByte(VERSION);
+    writeVarint(out, markers.size());
+    for (MarkersResponseDto marker : markers) {
+      writeVarint(out, marker.id());
+      out.writeInt(marker.latitude().microDegrees());
+      out.writeInt(marker.longitude().microDegrees());
+      out.writeByte(marker.color() == null ? NO_COLOR : marker.color().ordinal());
+      writeVarint(out, marker.score() == null ? 0 : marker.score() + 1L);
+    }
+    out.flush();
+  }
+
+  @Override
+  protected List<MarkersResponseDto> readInternal(Class<? extends List<MarkersResponseDto>> clazz,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("마커 바이너리 형식은 응답 전용입니다.", inputMessage);
+  }
+
+  @Override
+  public List<MarkersResponseDto> read(Type type, Class<?> contextClass,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("마커 바이너리 형식은 응답 전용입니다.", inputMessage);
+  }
+
+  private static void writeVarint(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+}
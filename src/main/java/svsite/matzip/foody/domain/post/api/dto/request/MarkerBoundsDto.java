@@ -0,0 +1,47 @@
+package svsite.matzip.foody.domain.post.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+@Schema(description = "지도 화면 영역(바운딩 박스) 요청 DTO")
+public record MarkerBoundsDto(
+
+    @Schema(description = "최소 위도", example = "37.400000")
+    @NotNull(message = "최소 위도 값은 필수입니다.")
+    @DecimalMin(value = "-90.000000", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90.000000", message = "위도는 90 이하이어야 합니다.")
+    BigDecimal minLatitude,
+
+    @Schema(description = "최대 위도", example = "37.700000")
+    @NotNull(message = "최대 위도 값은 필수입니다.")
+    @DecimalMin(value = "-90.000000", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90.000000", message = "위도는 90 이하이어야 합니다.")
+    BigDecimal maxLatitude,
+
+    @Schema(description = "최소 경도", example = "126.800000")
+    @NotNull(message = "최소 경도 값은 필수입니다.")
+    @DecimalMin(value = "-180.000000", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180.000000", message = "경도는 180 이하이어야 합니다.")
+    BigDecimal minLongitude,
+
+    @Schema(description = "최대 경도", example = "127.200000")
+    @NotNull(message = "최대 경도 값은 필수입니다.")
+    @DecimalMin(value = "-180.000000", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180.000000", message = "경도는 180 이하이어야 합니다.")
+    BigDecimal maxLongitude
+) {
+
+  @Schema(hidden = true)
+  @AssertTrue(message = "최소 좌표는 최대 좌표보다 클 수 없습니다.")
+  public boolean isOrdered() {
+    if (minLatitude == null || maxLatitude == null || minLongitude == null
+        || maxLongitude == null) {
+      return true;
+    }
+    return minLatitude.compareTo(maxLatitude) <= 0 && minLongitude.compareTo(maxLongitude) <= 0;
+  }
+}
@@ -0,0 +1,39 @@
+package svsite.matzip.foody.domain.post.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+@Schema(description = "내 주변 맛집 검색 요청 DTO")
+public record NearbySearchDto(
+
+    @Schema(description = "기준 위도", example = "37.566500")
+    @NotNull(message = "위도 값은 필수입니다.")
+    @DecimalMin(value = "-90.000000", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90.000000", message = "위도는 90 이하이어야 합니다.")
+    BigDecimal latitude,
+
+    @Schema(description = "기준 경도", example = "126.978000")
+    @NotNull(message = "경도 값은 필수입니다.")
+    @DecimalMin(value = "-180.000000", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180.000000", message = "경도는 180 이하이어야 합니다.")
+    BigDecimal longitude,
+
+    @Schema(description = "검색 반경 (m, 1 ~ 50000)", example = "1000", defaultValue = "1000")
+    @Min(value = 1, message = "반경은 1m 이상이어야 합니다.")
+    @Max(value = 50_000, message = "반경은 50km 이하이어야 합니다.")
+    Integer radius
+) {
+
+  public static final int DEFAULT_RADIUS = 1_000;
+
+  public NearbySearchDto {
+    if (radius == null) {
+      radius = DEFAULT_RADIUS;
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package svsite.matzip.foody.domain.post.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+@Schema(description = "월간 캘린더의 일자별 게시글 요약 응답 DTO")
+@Builder
+public record CalendarDayResponseDto(
+    @Schema(description = "일자 (1~31)", example = "14")
+    int day,
+
+    @Schema(description = "해당 일자의 게시글 수", example = "3")
+    int count,
+
+    @Schema(description = "해당 일자에 사용된 마커 색상 (많이 사용된 순)", example = "[\"RED\", \"BLUE\"]")
+    List<MarkerColor> colors,
+
+    @Schema(description = "해당 일자 게시글 중 가장 높은 점수", example = "10")
+    Integer topScore
+) {
+}
@@ -0,0 +1,34 @@
+package svsite.matzip.foody.domain.post.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.PostDailyActivity;
+
+@Schema(description = "일자별 게시글 활동 집계 응답 DTO (히트맵)")
+@Builder
+public record DailyActivityResponseDto(
+    @Schema(description = "일자", example = "2025-02-14")
+    LocalDate date,
+
+    @Schema(description = "해당 일자의 게시글 수", example = "3")
+    int count,
+
+    @Schema(description = "해당 일자 게시글의 평균 점수 (점수가 있는 게시글 기준)", example = "8.5")
+    Double averageScore,
+
+    @Schema(description = "마커 색상별 게시글 수", example = "{\"RED\": 2, \"BLUE\": 1}")
+    Map<MarkerColor, Integer> colors
+) {
+
+  public static DailyActivityResponseDto from(PostDailyActivity activity) {
+    return DailyActivityResponseDto.builder()
+        .date(activity.getDay())
+        .count(activity.getPostCount())
+        .averageScore(activity.getAverageScore())
+        .colors(activity.getColorCounts())
+        .build();
+  }
+}
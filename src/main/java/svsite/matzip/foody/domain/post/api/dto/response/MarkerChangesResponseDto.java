@@ -0,0 +1,23 @@
+package svsite.matzip.foody.domain.post.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+
+@Schema(description = "마지막 동기화 이후 변경된 마커 응답 DTO")
+@Builder
+public record MarkerChangesResponseDto(
+    @Schema(description = "추가되거나 수정된 마커 목록")
+    List<MarkersResponseDto> upserts,
+
+    @Schema(description = "삭제된 마커 ID 목록", example = "[3, 7]")
+    List<Long> deletedIds,
+
+    @Schema(description = "다음 동기화 요청 시 since로 전달할 서버 워터마크", example = "2025-02-08T12:00:00")
+    LocalDateTime watermark,
+
+    @Schema(description = "true이면 upserts가 전체 마커 목록이므로 클라이언트는 로컬 마커를 모두 교체한다", example = "false")
+    boolean fullSync
+) {
+}
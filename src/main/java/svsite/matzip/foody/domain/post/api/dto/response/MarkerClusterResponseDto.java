@@ -0,0 +1,29 @@
+package svsite.matzip.foody.domain.post.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+@Schema(description = "지도 축소 시 묶어서 보여줄 마커 클러스터 응답 DTO")
+@Builder
+public record MarkerClusterResponseDto(
+    @Schema(description = "클러스터 geohash 셀", example = "wydm")
+    String geohash,
+
+    @Schema(description = "클러스터에 포함된 마커 수", example = "12")
+    int count,
+
+    @Schema(description = "클러스터 중심 위도", example = "37.5665", type = "number", format = "double")
+    Coordinate latitude,
+
+    @Schema(description = "클러스터 중심 경도", example = "126.978", type = "number", format = "double")
+    Coordinate longitude,
+
+    @Schema(description = "클러스터에서 가장 많이 사용된 마커 색상", example = "RED")
+    MarkerColor color,
+
+    @Schema(description = "클러스터 평균 점수 (점수가 있는 마커 기준)", example = "8.5")
+    Double averageScore
+) {
+}
@@ -1,8 +1,8 @@
 package svsite.matzip.foody.domain.post.api.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
 import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
 
@@ -12,11 +12,11 @@ public record MarkersResponseDto(
     @Schema(description = "마커 ID", example = "1")
     Long id,
 
-    @Schema(description = "마커 위도 좌표", example = "37.566500")
-    BigDecimal latitude,
+    @Schema(description = "마커 위도 좌표", example = "37.5665", type = "number", format = "double")
+    Coordinate latitude,
 
-    @Schema(description = "마커 경도 좌표", example = "126.978000")
-    BigDecimal longitude,
+    @Schema(description = "마커 경도 좌표", example = "126.978", type = "number", format = "double")
+    Coordinate longitude,
 
     @Schema(description = "마커 색상", example = "RED")
     MarkerColor color,
@@ -0,0 +1,29 @@
+package svsite.matzip.foody.domain.post.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+@Schema(description = "기준 위치에서 가까운 맛집 마커 응답 DTO")
+@Builder
+public record NearbyMarkerResponseDto(
+    @Schema(description = "마커 ID", example = "1")
+    Long id,
+
+    @Schema(description = "마커 위도 좌표", example = "37.5665", type = "number", format = "double")
+    Coordinate latitude,
+
+    @Schema(description = "마커 경도 좌표", example = "126.978", type = "number", format = "double")
+    Coordinate longitude,
+
+    @Schema(description = "마커 색상", example = "RED")
+    MarkerColor color,
+
+    @Schema(description = "마커 점수", example = "10")
+    Integer score,
+
+    @Schema(description = "기준 위치로부터의 거리 (m)", example = "350.2")
+    double distance
+) {
+}
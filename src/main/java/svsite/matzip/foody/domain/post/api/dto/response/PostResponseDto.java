@@ -2,12 +2,12 @@ package svsite.matzip.foody.domain.post.api.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import lombok.Builder;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
 import svsite.matzip.foody.domain.post.entity.Post;
 
@@ -15,10 +15,10 @@ import svsite.matzip.foody.domain.post.entity.Post;
 public record PostResponseDto(
     @Schema(description = "게시글 ID", example = "1")
     Long id,
-    @Schema(description = "위도 값 (최대 소수점 6자리)", example = "37.566500")
-    BigDecimal latitude,
-    @Schema(description = "경도 값 (최대 소수점 6자리)", example = "126.978000")
-    BigDecimal longitude,
+    @Schema(description = "위도 값 (최대 소수점 6자리)", example = "37.5665", type = "number", format = "double")
+    Coordinate latitude,
+    @Schema(description = "경도 값 (최대 소수점 6자리)", example = "126.978", type = "number", format = "double")
+    Coordinate longitude,
     @Schema(description = "마커 색상", example = "RED")
     MarkerColor color,
     @Schema(description = "주소", example = "서울특별시 종로구")
@@ -0,0 +1,159 @@
+package svsite.matzip.foody.domain.post.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+
+// 사용자별 마커 캐시. 전체 마커 수 기준으로 가장 오래 사용하지 않은 사용자부터 제거한다.
+// 무효화는 이 인스턴스에만 반영되므로 다른 인스턴스의 변경은 저장 후 ttl이 지나야 보인다.
+// MeterBinder 빈이므로 marker.cache.* 지표가 MeterRegistry에 자동으로 등록된다.
+@Component
+public class MarkerCache implements MeterBinder {
+
+  private static final String METRIC = "marker.cache";
+
+  private final long maxMarkers;
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+  private final LinkedHashMap<Long, Entry> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+  private long cachedMarkers;
+
+  // 조회 도중 무효화가 일어나면 오래된 결과를 저장하지 않도록 세대 값을 비교한다.
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  @Autowired
+  public MarkerCache(@Value("${marker.cache.max-markers:500000}") long maxMarkers,
+      @Value("${marker.cache.ttl:60s}") Duration ttl) {
+    this(maxMarkers, ttl, System::nanoTime);
+  }
+
+  MarkerCache(long maxMarkers, Duration ttl, LongSupplier nanoClock) {
+    this.maxMarkers = maxMarkers;
+    this.ttlNanos = ttl.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  public MarkerSnapshot getOrLoad(long userId, Supplier<List<PostMarkersQueryDto>> loader) {
+    MarkerSnapshot cached = find(userId);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    long loadGeneration = generation.get();
+    MarkerSnapshot loaded = MarkerSnapshot.of(loader.get());  // DB 조회는 락 밖에서 수행
+    put(userId, loaded, loadGeneration);
+    return loaded;
+  }
+
+  public void evict(long userId) {
+    generation.incrementAndGet();
+    synchronized (this) {
+      remove(userId);
+    }
+  }
+
+  // 트랜잭션이 롤백되거나 커밋 전에 다시 채워지는 것을 막기 위해 커밋 이후에 제거한다.
+  public void evictAfterCommit(long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(userId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        evict(userId);
+      }
+    });
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(METRIC + ".requests", hits, AtomicLong::get)
+        .tag("result", "hit")
+        .description("마커 캐시 조회 수")
+        .register(registry);
+    FunctionCounter.builder(METRIC + ".requests", misses, AtomicLong::get)
+        .tag("result", "miss")
+        .description("마커 캐시 조회 수")
+        .register(registry);
+    FunctionCounter.builder(METRIC + ".evictions", evictions, AtomicLong::get)
+        .description("용량 초과로 제거된 사용자 캐시 수")
+        .register(registry);
+    Gauge.builder(METRIC + ".users", this, cache -> cache.stats().users())
+        .description("마커가 캐시된 사용자 수")
+        .register(registry);
+    Gauge.builder(METRIC + ".markers", this, cache -> cache.stats().markers())
+        .description("캐시된 전체 마커 수")
+        .register(registry);
+  }
+
+  public Stats stats() {
+    synchronized (this) {
+      return new Stats(hits.get(), misses.get(), evictions.get(), snapshots.size(), cachedMarkers);
+    }
+  }
+
+  private synchronized MarkerSnapshot find(long userId) {
+    Entry entry = snapshots.get(userId);
+    if (entry == null) {
+      return null;
+    }
+    if (nanoClock.getAsLong() - entry.storedAt() >= ttlNanos) {
+      remove(userId);
+      return null;
+    }
+    return entry.snapshot();
+  }
+
+  private void remove(long userId) {
+    Entry removed = snapshots.remove(userId);
+    if (removed != null) {
+      cachedMarkers -= removed.snapshot().size();
+    }
+  }
+
+  private synchronized void put(long userId, MarkerSnapshot snapshot, long loadGeneration) {
+    if (generation.get() != loadGeneration || snapshot.size() > maxMarkers) {
+      return;
+    }
+    Entry previous = snapshots.put(userId, new Entry(snapshot, nanoClock.getAsLong()));
+    cachedMarkers += snapshot.size() - (previous == null ? 0 : previous.snapshot().size());
+
+    Iterator<Map.Entry<Long, Entry>> eldest = snapshots.entrySet().iterator();
+    while (cachedMarkers > maxMarkers && eldest.hasNext()) {
+      Map.Entry<Long, Entry> entry = eldest.next();
+      if (entry.getKey() == userId) {
+        continue;
+      }
+      cachedMarkers -= entry.getValue().snapshot().size();
+      eldest.remove();
+      evictions.incrementAndGet();
+    }
+  }
+
+  private record Entry(MarkerSnapshot snapshot, long storedAt) {
+  }
+
+  public record Stats(long hits, long misses, long evictions, int users, long markers) {
+  }
+}
@@ -0,0 +1,61 @@
+package svsite.matzip.foody.domain.post.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+
+// 한 사용자의 마커 목록을 박싱 없이 열 단위 배열로 보관한다. 좌표는 Coordinate의 마이크로 도 값.
+public final class MarkerSnapshot {
+
+  private static final byte NO_COLOR = -1;
+  private static final int NO_SCORE = Integer.MIN_VALUE;
+  private static final MarkerColor[] COLORS = MarkerColor.values();
+
+  private final long[] ids;
+  private final int[] latitudes;
+  private final int[] longitudes;
+  private final byte[] colors;
+  private final int[] scores;
+
+  private MarkerSnapshot(int size) {
+    this.ids = new long[size];
+    this.latitudes = new int[size];
+    this.longitudes = new int[size];
+    this.colors = new byte[size];
+    this.scores = new int[size];
+  }
+
+  public static MarkerSnapshot of(List<PostMarkersQueryDto> markers) {
+    MarkerSnapshot snapshot = new MarkerSnapshot(markers.size());
+    for (int i = 0; i < markers.size(); i++) {
+      PostMarkersQueryDto marker = markers.get(i);
+      snapshot.ids[i] = marker.getId();
+      snapshot.latitudes[i] = marker.getLatitude().microDegrees();
+      snapshot.longitudes[i] = marker.getLongitude().microDegrees();
+      snapshot.colors[i] = marker.getColor() == null ? NO_COLOR : (byte) marker.getColor().ordinal();
+      snapshot.scores[i] = marker.getScore() == null ? NO_SCORE : marker.getScore();
+    }
+    return snapshot;
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  public List<MarkersResponseDto> toResponses() {
+    List<MarkersResponseDto> responses = new ArrayList<>(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      responses.add(MarkersResponseDto.builder()
+          .id(ids[i])
+          .latitude(new Coordinate(latitudes[i]))
+          .longitude(new Coordinate(longitudes[i]))
+          .color(colors[i] == NO_COLOR ? null : COLORS[colors[i]])
+          .score(scores[i] == NO_SCORE ? null : scores[i])
+          .build());
+    }
+    return responses;
+  }
+}
@@ -0,0 +1,46 @@
+package svsite.matzip.foody.domain.post.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 위경도를 소수점 6자리 고정소수점 정수(마이크로 도)로 표현한다. JSON에서는 숫자로 직렬화된다.
+@Schema(type = "number", format = "double", example = "37.5665")
+public record Coordinate(int microDegrees) implements Comparable<Coordinate> {
+
+  public static final int SCALE = 6;
+  private static final double MICRO_DEGREES_PER_DEGREE = 1_000_000d;
+
+  public static Coordinate of(BigDecimal degrees) {
+    if (degrees == null) {
+      return null;
+    }
+    return new Coordinate(degrees.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().intValueExact());
+  }
+
+  @JsonCreator
+  public static Coordinate ofDegrees(double degrees) {
+    return new Coordinate(Math.toIntExact(Math.round(degrees * MICRO_DEGREES_PER_DEGREE)));
+  }
+
+  @JsonValue
+  public double toDegrees() {
+    return microDegrees / MICRO_DEGREES_PER_DEGREE;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(microDegrees, SCALE);
+  }
+
+  @Override
+  public int compareTo(Coordinate other) {
+    return Integer.compare(microDegrees, other.microDegrees);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
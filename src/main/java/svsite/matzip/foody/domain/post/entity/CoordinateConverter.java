@@ -0,0 +1,20 @@
+package svsite.matzip.foody.domain.post.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+// 기존 numeric(10, 6) 컬럼은 그대로 두고 엔티티에서만 고정소수점 정수로 다룬다.
+@Converter
+public class CoordinateConverter implements AttributeConverter<Coordinate, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(Coordinate coordinate) {
+    return coordinate == null ? null : coordinate.toBigDecimal();
+  }
+
+  @Override
+  public Coordinate convertToEntityAttribute(BigDecimal value) {
+    return Coordinate.of(value);
+  }
+}
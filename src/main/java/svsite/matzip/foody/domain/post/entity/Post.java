@@ -4,23 +4,27 @@ import static jakarta.persistence.FetchType.LAZY;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -33,10 +37,16 @@ import svsite.matzip.foody.domain.favorite.entity.Favorite;
 import svsite.matzip.foody.domain.image.entity.Image;
 import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
 import svsite.matzip.foody.domain.post.api.dto.request.UpdatePostDto;
+import svsite.matzip.foody.domain.post.search.NGramTokenizer;
 import svsite.matzip.foody.global.entity.BaseEntity;
+import svsite.matzip.foody.global.util.geo.GeoHash;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+    @Index(name = "idx_post_user_geohash", columnList = "user_id, geohash"),
+    @Index(name = "idx_post_user_updated_at", columnList = "user_id, updated_at"),
+    @Index(name = "idx_post_user_date_id", columnList = "user_id, date, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -47,11 +57,16 @@ public class Post extends BaseEntity {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  @Convert(converter = CoordinateConverter.class)
   @Column(precision = 10, scale = 6)
-  private BigDecimal latitude;
+  private Coordinate latitude;
 
+  @Convert(converter = CoordinateConverter.class)
   @Column(precision = 10, scale = 6)
-  private BigDecimal longitude;
+  private Coordinate longitude;
+
+  @Column(length = GeoHash.MAX_PRECISION)
+  private String geohash;
 
   @Enumerated(EnumType.STRING)
   private MarkerColor color;
@@ -60,9 +75,13 @@ public class Post extends BaseEntity {
   private String address;
   @Column(nullable = false, length = 100)
   private String title;
-  @Lob
+  @Column(columnDefinition = "text")  // 트라이그램 인덱스를 걸 수 있도록 oid(@Lob) 대신 text (PostDescriptionTextMigration)
   private String description;
 
+  // 제목, 주소, 설명의 1/2-gram. 짧은 한글 검색어용 tsvector 인덱스를 건다. (PostSearchGramsMigration)
+  @Column(columnDefinition = "text")
+  private String searchGrams;
+
   private LocalDateTime date;
 
   private Integer score;
@@ -80,8 +99,8 @@ public class Post extends BaseEntity {
 
   public static Post create(CreatePostDto postDto, User user) {
     Post post = Post.builder()
-        .latitude(postDto.latitude())
-        .longitude(postDto.longitude())
+        .latitude(Coordinate.of(postDto.latitude()))
+        .longitude(Coordinate.of(postDto.longitude()))
         .color(postDto.color())
         .address(postDto.address())
         .title(postDto.title())
@@ -108,6 +127,41 @@ public class Post extends BaseEntity {
     this.score = postDto.score();
   }
 
+  // 툼스톤은 델타 동기화에 id와 deletedAt만 쓰므로 이미지와 즐겨찾기는 삭제 시점에 지운다.
+  @Override
+  public void softDelete() {
+    super.softDelete();
+    List.copyOf(images).forEach(this::removeImage);
+    if (favorites != null) {
+      favorites.clear();
+    }
+  }
+
+  @PrePersist
+  @PreUpdate
+  void beforeSave() {
+    syncGeohash();
+    syncSearchGrams();
+  }
+
+  public void syncGeohash() {
+    if (latitude == null || longitude == null) {
+      return;
+    }
+    this.geohash = GeoHash.encode(latitude.toDegrees(), longitude.toDegrees());
+  }
+
+  public void syncSearchGrams() {
+    this.searchGrams = searchGramsOf(title, address, description);
+  }
+
+  public static String searchGramsOf(String title, String address, String description) {
+    Set<String> grams = new LinkedHashSet<>(NGramTokenizer.indexGrams(title));
+    grams.addAll(NGramTokenizer.indexGrams(address));
+    grams.addAll(NGramTokenizer.indexGrams(description));
+    return NGramTokenizer.joinWordGrams(grams);
+  }
+
   public void updateImages(List<Image> updatedImages) {
     Map<String, Image> existingImageMap = images.stream()
         .collect(Collectors.toMap(Image::getUri, Function.identity()));
@@ -0,0 +1,89 @@
+package svsite.matzip.foody.domain.post.entity;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import svsite.matzip.foody.domain.auth.entity.User;
+
+// 사용자별 일자별 게시글 집계. 게시글 등록/수정/삭제 시 PostActivityService가 같은 트랜잭션에서 증감한다.
+// (user_id, day) 유니크 인덱스가 upsert 충돌 대상이자 월/연 히트맵 범위 조회 인덱스다.
+@Entity
+@Table(name = "post_daily_activity",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_daily_activity_user_day", columnNames = {"user_id", "day"}))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostDailyActivity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  @Column(nullable = false)
+  private LocalDate day;
+
+  @Column(nullable = false)
+  private int postCount;
+
+  @Column(nullable = false)
+  private long scoreSum;
+
+  @Column(nullable = false)
+  private int scoreCount;
+
+  @Column(nullable = false)
+  private int redCount;
+
+  @Column(nullable = false)
+  private int blueCount;
+
+  @Column(nullable = false)
+  private int greenCount;
+
+  @Column(nullable = false)
+  private int yellowCount;
+
+  @Column(nullable = false)
+  private int purpleCount;
+
+  public Double getAverageScore() {
+    return scoreCount == 0 ? null : (double) scoreSum / scoreCount;
+  }
+
+  public Map<MarkerColor, Integer> getColorCounts() {
+    Map<MarkerColor, Integer> counts = new EnumMap<>(MarkerColor.class);
+    putIfPositive(counts, MarkerColor.RED, redCount);
+    putIfPositive(counts, MarkerColor.BLUE, blueCount);
+    putIfPositive(counts, MarkerColor.GREEN, greenCount);
+    putIfPositive(counts, MarkerColor.YELLOW, yellowCount);
+    putIfPositive(counts, MarkerColor.PURPLE, purpleCount);
+    return counts;
+  }
+
+  private static void putIfPositive(Map<MarkerColor, Integer> counts, MarkerColor color, int count) {
+    if (count > 0) {
+      counts.put(color, count);
+    }
+  }
+}
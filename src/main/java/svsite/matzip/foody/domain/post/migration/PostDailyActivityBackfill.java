@@ -0,0 +1,52 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.global.migration.DataMigration;
+
+// 일자별 집계를 게시글에서 다시 계산한다. 이후에는 PostActivityService가 증분 갱신한다.
+// 테이블을 SHARE ROW EXCLUSIVE로 잠가 다른 인스턴스의 증분 갱신이 재계산 도중에 끼어들지 못하게 한다.
+// 잠금 전에 반영된 증분은 재계산 결과에 포함되고, 잠금 대기 중인 증분은 커밋 후 그 위에 더해진다.
+@Slf4j
+@Component
+@Order(2)
+public class PostDailyActivityBackfill implements DataMigration {
+
+  @Override
+  public String name() {
+    return "post_daily_activity_backfill";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute("LOCK TABLE post_daily_activity IN SHARE ROW EXCLUSIVE MODE");
+    // 게시글이 모두 삭제된 날짜도 0으로 맞춘다. (조회는 post_count > 0인 행만 본다)
+    jdbcTemplate.update("UPDATE post_daily_activity SET post_count = 0, score_sum = 0, score_count = 0, "
+        + "red_count = 0, blue_count = 0, green_count = 0, yellow_count = 0, purple_count = 0");
+    int rows = jdbcTemplate.update("INSERT INTO post_daily_activity "
+        + "(user_id, day, post_count, score_sum, score_count, "
+        + "red_count, blue_count, green_count, yellow_count, purple_count) "
+        + "SELECT p.user_id, CAST(p.date AS date), COUNT(*), COALESCE(SUM(p.score), 0), COUNT(p.score), "
+        + "COUNT(*) FILTER (WHERE p.color = 'RED'), "
+        + "COUNT(*) FILTER (WHERE p.color = 'BLUE'), "
+        + "COUNT(*) FILTER (WHERE p.color = 'GREEN'), "
+        + "COUNT(*) FILTER (WHERE p.color = 'YELLOW'), "
+        + "COUNT(*) FILTER (WHERE p.color = 'PURPLE') "
+        + "FROM post p "
+        + "WHERE p.deleted_at IS NULL "
+        + "AND p.date IS NOT NULL "
+        + "GROUP BY p.user_id, CAST(p.date AS date) "
+        + "ON CONFLICT (user_id, day) DO UPDATE SET "
+        + "post_count = EXCLUDED.post_count, "
+        + "score_sum = EXCLUDED.score_sum, "
+        + "score_count = EXCLUDED.score_count, "
+        + "red_count = EXCLUDED.red_count, "
+        + "blue_count = EXCLUDED.blue_count, "
+        + "green_count = EXCLUDED.green_count, "
+        + "yellow_count = EXCLUDED.yellow_count, "
+        + "purple_count = EXCLUDED.purple_count");
+    log.info("게시글 일자별 집계 재계산 - {}일", rows);
+  }
+}
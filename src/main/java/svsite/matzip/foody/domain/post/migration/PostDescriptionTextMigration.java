@@ -0,0 +1,39 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.global.migration.DataMigration;
+
+// description 컬럼을 @Lob(oid, large object)에서 text로 바꾼다. ddl-auto: update는 기존 컬럼의 타입을 바꾸지 않으므로
+// 이전 매핑으로 만들어진 DB에서만 large object 내용을 text 컬럼으로 옮기고, 더 이상 참조되지 않는 large object를 지운다.
+@Slf4j
+@Component
+@Order(1)
+public class PostDescriptionTextMigration implements DataMigration {
+
+  @Override
+  public String name() {
+    return "post_description_oid_to_text";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    String type = jdbcTemplate.query("SELECT udt_name FROM information_schema.columns "
+            + "WHERE table_schema = current_schema() AND table_name = 'post' AND column_name = 'description'",
+        rs -> rs.next() ? rs.getString(1) : null);
+    if (!"oid".equals(type)) {
+      return;
+    }
+    jdbcTemplate.execute("ALTER TABLE post ADD COLUMN description_text text");
+    int converted = jdbcTemplate.update("UPDATE post "
+        + "SET description_text = convert_from(lo_get(description), 'UTF8') "
+        + "WHERE description IS NOT NULL");
+    jdbcTemplate.queryForList("SELECT lo_unlink(description) FROM post WHERE description IS NOT NULL",
+        Integer.class);
+    jdbcTemplate.execute("ALTER TABLE post DROP COLUMN description");
+    jdbcTemplate.execute("ALTER TABLE post RENAME COLUMN description_text TO description");
+    log.info("게시글 설명 oid -> text 변환 - {}건", converted);
+  }
+}
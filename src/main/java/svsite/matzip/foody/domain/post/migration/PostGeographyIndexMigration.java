@@ -0,0 +1,27 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.global.migration.DataMigration;
+
+// 반경 검색(PostgisNearbyPostSearch)이 쓰는 PostGIS 확장과 geography 표현식 GiST 인덱스를 만든다.
+// 인덱스 표현식은 PostRepository.findNearbyMarkers의 ST_DWithin 첫 인자와 같아야 한다.
+@Component
+@Order(6)
+@ConditionalOnProperty(name = "post.nearby.strategy", havingValue = "postgis")
+public class PostGeographyIndexMigration implements DataMigration {
+
+  @Override
+  public String name() {
+    return "post_geography_index";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS postgis");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_post_geography "
+        + "ON post USING gist (geography(ST_MakePoint(longitude, latitude)))");
+  }
+}
@@ -0,0 +1,48 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.global.migration.DataMigration;
+import svsite.matzip.foody.global.util.geo.GeoHash;
+
+// geohash 컬럼이 추가되기 전에 저장된 게시글의 geohash를 채운다. 새 게시글은 저장할 때 Post가 채운다.
+@Slf4j
+@Component
+@Order(5)
+public class PostGeohashBackfill implements DataMigration {
+
+  private static final int BATCH_SIZE = 500;
+
+  @Override
+  public String name() {
+    return "post_geohash_backfill";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    long lastId = 0;
+    int total = 0;
+    while (true) {
+      List<Object[]> updates = jdbcTemplate.query(
+          "SELECT id, latitude, longitude FROM post "
+              + "WHERE id > ? AND geohash IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL "
+              + "ORDER BY id LIMIT ?",
+          (rs, rowNum) -> new Object[]{
+              GeoHash.encode(Coordinate.of(rs.getBigDecimal("latitude")).toDegrees(),
+                  Coordinate.of(rs.getBigDecimal("longitude")).toDegrees()),
+              rs.getLong("id")},
+          lastId, BATCH_SIZE);
+      if (updates.isEmpty()) {
+        break;
+      }
+      jdbcTemplate.batchUpdate("UPDATE post SET geohash = ? WHERE id = ?", updates);
+      lastId = (Long) updates.get(updates.size() - 1)[1];
+      total += updates.size();
+    }
+    log.info("게시글 geohash 백필 - {}건", total);
+  }
+}
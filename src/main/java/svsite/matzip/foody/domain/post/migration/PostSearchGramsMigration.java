@@ -0,0 +1,47 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.global.migration.DataMigration;
+
+// 기존 게시글의 search_grams를 채우고 tsvector GIN 인덱스를 만든다. 새 게시글은 저장할 때 Post가 채운다.
+// 'simple' 파서는 한글 단어를 쪼개지 않으므로 미리 나눈 2-gram을 단어로 색인한다. (PostRepository.searchRankedPostIdsByGrams)
+@Slf4j
+@Component
+@Order(4)
+public class PostSearchGramsMigration implements DataMigration {
+
+  private static final int BATCH_SIZE = 500;
+
+  @Override
+  public String name() {
+    return "post_search_grams";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    long lastId = 0;
+    int total = 0;
+    while (true) {
+      List<Object[]> updates = jdbcTemplate.query(
+          "SELECT id, title, address, description FROM post WHERE id > ? ORDER BY id LIMIT ?",
+          (rs, rowNum) -> new Object[]{
+              Post.searchGramsOf(rs.getString("title"), rs.getString("address"), rs.getString("description")),
+              rs.getLong("id")},
+          lastId, BATCH_SIZE);
+      if (updates.isEmpty()) {
+        break;
+      }
+      jdbcTemplate.batchUpdate("UPDATE post SET search_grams = ? WHERE id = ?", updates);
+      lastId = (Long) updates.get(updates.size() - 1)[1];
+      total += updates.size();
+    }
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_post_search_grams "
+        + "ON post USING gin (to_tsvector('simple', search_grams))");
+    log.info("게시글 검색 gram 채움 - {}건", total);
+  }
+}
@@ -0,0 +1,29 @@
+package svsite.matzip.foody.domain.post.migration;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.global.migration.DataMigration;
+
+// 관련도순 검색(PostgresPostSearchEngine)이 쓰는 pg_trgm 확장과 제목/주소/설명 트라이그램 GIN 인덱스를 만든다.
+// description을 text로 바꾼 뒤(PostDescriptionTextMigration)에 실행되어야 한다.
+@Component
+@Order(3)
+public class PostTrigramIndexMigration implements DataMigration {
+
+  @Override
+  public String name() {
+    return "post_trigram_indexes";
+  }
+
+  @Override
+  public void migrate(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_post_title_trgm "
+        + "ON post USING gin (title gin_trgm_ops)");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_post_address_trgm "
+        + "ON post USING gin (address gin_trgm_ops)");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_post_description_trgm "
+        + "ON post USING gin (description gin_trgm_ops)");
+  }
+}
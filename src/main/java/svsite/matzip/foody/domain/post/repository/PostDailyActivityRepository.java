@@ -0,0 +1,49 @@
+package svsite.matzip.foody.domain.post.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.entity.PostDailyActivity;
+
+public interface PostDailyActivityRepository extends JpaRepository<PostDailyActivity, Long> {
+
+  @Query("SELECT a FROM PostDailyActivity a " +
+      "WHERE a.user = :user " +
+      "AND a.day >= :from " +
+      "AND a.day < :to " +
+      "AND a.postCount > 0 " +
+      "ORDER BY a.day")
+  List<PostDailyActivity> findActivities(@Param("user") User user, @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  // 동시에 같은 날짜에 글을 써도 행 잠금 하나로 증감이 합쳐지도록 ON CONFLICT로 누적한다.
+  @Modifying
+  @Query(value = "INSERT INTO post_daily_activity AS a " +
+      "(user_id, day, post_count, score_sum, score_count, " +
+      "red_count, blue_count, green_count, yellow_count, purple_count) " +
+      "VALUES (:userId, :day, :postCount, :scoreSum, :scoreCount, " +
+      ":red, :blue, :green, :yellow, :purple) " +
+      "ON CONFLICT (user_id, day) DO UPDATE SET " +
+      "post_count = a.post_count + EXCLUDED.post_count, " +
+      "score_sum = a.score_sum + EXCLUDED.score_sum, " +
+      "score_count = a.score_count + EXCLUDED.score_count, " +
+      "red_count = a.red_count + EXCLUDED.red_count, " +
+      "blue_count = a.blue_count + EXCLUDED.blue_count, " +
+      "green_count = a.green_count + EXCLUDED.green_count, " +
+      "yellow_count = a.yellow_count + EXCLUDED.yellow_count, " +
+      "purple_count = a.purple_count + EXCLUDED.purple_count",
+      nativeQuery = true)
+  void accumulate(@Param("userId") Long userId, @Param("day") LocalDate day,
+      @Param("postCount") int postCount, @Param("scoreSum") long scoreSum,
+      @Param("scoreCount") int scoreCount,
+      @Param("red") int red, @Param("blue") int blue, @Param("green") int green,
+      @Param("yellow") int yellow, @Param("purple") int purple);
+
+  @Modifying
+  @Query("DELETE FROM PostDailyActivity a WHERE a.user = :user")
+  void deleteAllByUser(@Param("user") User user);
+}
@@ -1,15 +1,24 @@
 package svsite.matzip.foody.domain.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.repository.dto.NearbyMarkerRow;
+import svsite.matzip.foody.domain.post.repository.dto.PostCalendarQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkerChangeQueryDto;
 import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchDocumentQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchVersionQueryDto;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -20,31 +29,217 @@ public interface PostRepository extends JpaRepository<Post, Long> {
       "p.color, " +
       "p.score) " +
       "FROM Post p " +
-      "WHERE p.user = :user")
-  List<PostMarkersQueryDto> getAllMarkers(@Param("user") User user);
+      "WHERE p.user.id = :userId " +
+      "AND p.deletedAt IS NULL")
+  List<PostMarkersQueryDto> getAllMarkers(@Param("userId") long userId);
+
+  // geohash 범위는 (user_id, geohash) 인덱스를 타고, 위경도 조건으로 셀 경계 밖의 마커를 걸러낸다.
+  @Query("SELECT new svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto(" +
+      "p.id, " +
+      "p.latitude, " +
+      "p.longitude, " +
+      "p.color, " +
+      "p.score) " +
+      "FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.deletedAt IS NULL " +
+      "AND ((p.geohash BETWEEN :from1 AND :to1) " +
+      "OR (p.geohash BETWEEN :from2 AND :to2) " +
+      "OR (p.geohash BETWEEN :from3 AND :to3) " +
+      "OR (p.geohash BETWEEN :from4 AND :to4)) " +
+      "AND p.latitude BETWEEN :minLatitude AND :maxLatitude " +
+      "AND p.longitude BETWEEN :minLongitude AND :maxLongitude")
+  List<PostMarkersQueryDto> findMarkersInBounds(@Param("user") User user,
+      @Param("from1") String from1, @Param("to1") String to1,
+      @Param("from2") String from2, @Param("to2") String to2,
+      @Param("from3") String from3, @Param("to3") String to3,
+      @Param("from4") String from4, @Param("to4") String to4,
+      @Param("minLatitude") Coordinate minLatitude, @Param("maxLatitude") Coordinate maxLatitude,
+      @Param("minLongitude") Coordinate minLongitude,
+      @Param("maxLongitude") Coordinate maxLongitude);
+
+  // 삭제된 게시글도 포함해 (since, until] 구간에 변경된 마커를 조회한다. deletedAt이 있으면 툼스톤이다.
+  @Query("SELECT new svsite.matzip.foody.domain.post.repository.dto.PostMarkerChangeQueryDto(" +
+      "p.id, " +
+      "p.latitude, " +
+      "p.longitude, " +
+      "p.color, " +
+      "p.score, " +
+      "p.deletedAt) " +
+      "FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.updatedAt > :since " +
+      "AND p.updatedAt <= :until")
+  List<PostMarkerChangeQueryDto> findMarkerChanges(@Param("user") User user,
+      @Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+  @Query(value = "SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude, " +
+      "p.color AS color, p.score AS score, " +
+      "ST_Distance(geography(ST_MakePoint(p.longitude, p.latitude)), " +
+      "geography(ST_MakePoint(:longitude, :latitude))) AS distance " +
+      "FROM post p " +
+      "WHERE p.user_id = :userId " +
+      "AND p.deleted_at IS NULL " +
+      "AND ST_DWithin(geography(ST_MakePoint(p.longitude, p.latitude)), " +
+      "geography(ST_MakePoint(:longitude, :latitude)), :radius) " +
+      "ORDER BY distance, p.id",
+      countQuery = "SELECT COUNT(*) FROM post p " +
+          "WHERE p.user_id = :userId " +
+          "AND p.deleted_at IS NULL " +
+          "AND ST_DWithin(geography(ST_MakePoint(p.longitude, p.latitude)), " +
+          "geography(ST_MakePoint(:longitude, :latitude)), :radius)",
+      nativeQuery = true)
+  Page<NearbyMarkerRow> findNearbyMarkers(@Param("userId") Long userId,
+      @Param("latitude") double latitude, @Param("longitude") double longitude,
+      @Param("radius") double radius, Pageable pageable);
 
   @Query("SELECT p " +
       "FROM Post p " +
       "LEFT JOIN FETCH p.images i " +
       "WHERE p.user = :user " +
-      "AND p.id = :id")
+      "AND p.id = :id " +
+      "AND p.deletedAt IS NULL")
   Optional<Post> findByPostIdAndUser(@Param("id") long id, @Param("user") User user);
 
-  @Query("SELECT p " +
+  @Query("SELECT p FROM Post p " +
+      "WHERE p.id = :id " +
+      "AND p.deletedAt IS NULL")
+  Optional<Post> findActiveById(@Param("id") long id);
+
+  // 컬렉션 fetch join과 페이징을 함께 쓰면 메모리에서 페이징되므로 id만 페이징하고 이미지는 findAllWithImagesByIdIn으로 불러온다.
+  @Query(value = "SELECT p.id " +
+      "FROM Post p " +
+      "WHERE p.user.id = :userId " +
+      "AND p.deletedAt IS NULL " +
+      "ORDER BY p.date DESC, p.id DESC",
+      countQuery = "SELECT COUNT(p) " +
+          "FROM Post p " +
+          "WHERE p.user.id = :userId " +
+          "AND p.deletedAt IS NULL")
+  Page<Long> findRecentPostIdPage(@Param("userId") long userId, Pageable pageable);
+
+  @Query("SELECT p.id FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.deletedAt IS NULL " +
+      "ORDER BY p.date DESC, p.id DESC")
+  List<Long> findRecentPostIds(@Param("user") User user, Pageable pageable);
+
+  // OFFSET 없이 (user_id, date, id) 인덱스에서 커서 다음 위치부터 읽는다.
+  @Query("SELECT p.id FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.deletedAt IS NULL " +
+      "AND (p.date < :date OR (p.date = :date AND p.id < :id)) " +
+      "ORDER BY p.date DESC, p.id DESC")
+  List<Long> findRecentPostIdsAfter(@Param("user") User user, @Param("date") LocalDateTime date,
+      @Param("id") long id, Pageable pageable);
+
+  @Query("SELECT DISTINCT p " +
+      "FROM Post p " +
+      "LEFT JOIN FETCH p.images i " +
+      "WHERE p.id IN :ids")
+  List<Post> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+  long countByUserAndDeletedAtIsNull(User user);
+
+  // date 컬럼에 함수를 씌우지 않고 [from, to) 범위로 비교해야 (user_id, date, id) 인덱스를 탄다.
+  @Query("SELECT DISTINCT p " +
       "FROM Post p " +
       "LEFT JOIN FETCH p.images i " +
       "WHERE p.user = :user " +
-      "ORDER BY p.date DESC, i.id ASC")
-  Page<Post> findAllRecentPost(Pageable pageable, @Param("user") User user);
+      "AND p.deletedAt IS NULL " +
+      "AND p.date >= :from " +
+      "AND p.date < :to " +
+      "ORDER BY p.date, p.id")
+  List<Post> findPostsBetween(@Param("user") User user, @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
 
-  @Query("SELECT p FROM Post p " +
-      "WHERE EXTRACT(YEAR FROM p.date) = :year " +
-      "AND EXTRACT(MONTH FROM p.date) = :month " +
-      "AND p.user = :user")
-  List<Post> findPostsByMonth(@Param("year") int year, @Param("month") int month, @Param("user") User user);
+  @Query("SELECT new svsite.matzip.foody.domain.post.repository.dto.PostCalendarQueryDto(" +
+      "p.date, " +
+      "p.color, " +
+      "p.score) " +
+      "FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.deletedAt IS NULL " +
+      "AND p.date >= :from " +
+      "AND p.date < :to " +
+      "ORDER BY p.date")
+  List<PostCalendarQueryDto> findCalendarEntries(@Param("user") User user,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-  @Query("SELECT p FROM Post p " +
+  // 이미지는 id 페이지를 구한 뒤 findAllWithImagesByIdIn으로 한 번에 불러온다.
+  @Query(value = "SELECT p.id FROM Post p " +
+      "WHERE p.user = :user " +
+      "AND p.deletedAt IS NULL " +
+      "AND (p.title LIKE %:query% OR p.address LIKE %:query%)",
+      countQuery = "SELECT COUNT(p) FROM Post p " +
+          "WHERE p.user = :user " +
+          "AND p.deletedAt IS NULL " +
+          "AND (p.title LIKE %:query% OR p.address LIKE %:query%)")
+  Page<Long> searchPostIdsByTitleOrAddress(@Param("query") String query, @Param("user") User user,
+      Pageable pageable);
+
+  // 트라이그램 GIN 인덱스로 후보를 찾고 제목 > 주소 > 설명 순의 가중 유사도로 정렬한다. (PostgresPostSearchEngine 참고)
+  @Query(value = "SELECT p.id FROM post p " +
+      "WHERE p.user_id = :userId " +
+      "AND p.deleted_at IS NULL " +
+      "AND (p.title ILIKE :pattern OR p.address ILIKE :pattern OR p.description ILIKE :pattern) " +
+      "ORDER BY GREATEST(similarity(p.title, :query), " +
+      "similarity(p.address, :query) * 0.8, " +
+      "word_similarity(:query, p.description) * 0.5) DESC, " +
+      "p.date DESC, p.id DESC",
+      countQuery = "SELECT COUNT(*) FROM post p " +
+          "WHERE p.user_id = :userId " +
+          "AND p.deleted_at IS NULL " +
+          "AND (p.title ILIKE :pattern OR p.address ILIKE :pattern OR p.description ILIKE :pattern)",
+      nativeQuery = true)
+  Page<Long> searchRankedPostIds(@Param("userId") Long userId, @Param("query") String query,
+      @Param("pattern") String pattern, Pageable pageable);
+
+  // 트라이그램이 없는 두 글자 한글 검색어도 인덱스를 타도록 search_grams(2-gram) tsvector 인덱스로 후보를 좁힌 뒤
+  // ILIKE로 연속 일치를 확인한다. 정렬은 searchRankedPostIds와 같다.
+  @Query(value = "SELECT p.id FROM post p " +
+      "WHERE p.user_id = :userId " +
+      "AND p.deleted_at IS NULL " +
+      "AND to_tsvector('simple', p.search_grams) @@ plainto_tsquery('simple', :grams) " +
+      "AND (p.title ILIKE :pattern OR p.address ILIKE :pattern OR p.description ILIKE :pattern) " +
+      "ORDER BY GREATEST(similarity(p.title, :query), " +
+      "similarity(p.address, :query) * 0.8, " +
+      "word_similarity(:query, p.description) * 0.5) DESC, " +
+      "p.date DESC, p.id DESC",
+      countQuery = "SELECT COUNT(*) FROM post p " +
+          "WHERE p.user_id = :userId " +
+          "AND p.deleted_at IS NULL " +
+          "AND to_tsvector('simple', p.search_grams) @@ plainto_tsquery('simple', :grams) " +
+          "AND (p.title ILIKE :pattern OR p.address ILIKE :pattern OR p.description ILIKE :pattern)",
+      nativeQuery = true)
+  Page<Long> searchRankedPostIdsByGrams(@Param("userId") Long userId, @Param("query") String query,
+      @Param("grams") String grams, @Param("pattern") String pattern, Pageable pageable);
+
+  @Query("SELECT new svsite.matzip.foody.domain.post.repository.dto.PostSearchDocumentQueryDto(" +
+      "p.id, " +
+      "p.title, " +
+      "p.address, " +
+      "p.description, " +
+      "p.date) " +
+      "FROM Post p " +
       "WHERE p.user = :user " +
-      "AND (p.title LIKE %:query% OR p.address LIKE %:query%)")
-  Page<Post> searchByTitleOrAddress(@Param("query") String query, @Param("user") User user, Pageable pageable);
+      "AND p.deletedAt IS NULL")
+  List<PostSearchDocumentQueryDto> findSearchDocuments(@Param("user") User user);
+
+  // 툼스톤도 세므로 생성, 수정, 삭제, 툼스톤 정리 중 하나라도 있으면 값이 바뀐다.
+  @Query("SELECT new svsite.matzip.foody.domain.post.repository.dto.PostSearchVersionQueryDto(" +
+      "COUNT(p), " +
+      "MAX(p.updatedAt)) " +
+      "FROM Post p " +
+      "WHERE p.user = :user")
+  PostSearchVersionQueryDto findSearchVersion(@Param("user") User user);
+
+  // 툼스톤을 포함한 사용자의 모든 게시글을 지운다. 이미지와 즐겨찾기는 먼저 지워야 한다.
+  @Modifying
+  @Query("DELETE FROM Post p WHERE p.user = :user")
+  void deleteAllByUser(@Param("user") User user);
+
+  @Modifying
+  @Query("DELETE FROM Post p WHERE p.deletedAt < :cutoff")
+  int deleteTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,19 @@
+package svsite.matzip.foody.domain.post.repository.dto;
+
+import java.math.BigDecimal;
+
+// PostGIS 네이티브 쿼리 결과 projection
+public interface NearbyMarkerRow {
+
+  Long getId();
+
+  BigDecimal getLatitude();
+
+  BigDecimal getLongitude();
+
+  String getColor();
+
+  Integer getScore();
+
+  Double getDistance();
+}
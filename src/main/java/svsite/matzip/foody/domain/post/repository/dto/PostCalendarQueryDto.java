@@ -0,0 +1,19 @@
+package svsite.matzip.foody.domain.post.repository.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCalendarQueryDto {
+  private LocalDateTime date;
+  private MarkerColor color;
+  private Integer score;
+}
@@ -0,0 +1,23 @@
+package svsite.matzip.foody.domain.post.repository.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostMarkerChangeQueryDto {
+  private Long id;
+  private Coordinate latitude;
+  private Coordinate longitude;
+  private MarkerColor color;
+  private Integer score;
+  private LocalDateTime deletedAt;
+}
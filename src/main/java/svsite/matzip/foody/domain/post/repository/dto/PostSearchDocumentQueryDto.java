@@ -0,0 +1,20 @@
+package svsite.matzip.foody.domain.post.repository.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostSearchDocumentQueryDto {
+  private Long id;
+  private String title;
+  private String address;
+  private String description;
+  private LocalDateTime date;
+}
@@ -0,0 +1,17 @@
+package svsite.matzip.foody.domain.post.repository.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostSearchVersionQueryDto {
+  private Long postCount;
+  private LocalDateTime lastUpdatedAt;
+}
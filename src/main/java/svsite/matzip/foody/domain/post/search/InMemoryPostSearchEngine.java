@@ -0,0 +1,165 @@
+package svsite.matzip.foody.domain.post.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchDocumentQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchVersionQueryDto;
+
+// 테스트 환경용. 사용자별 2-gram 역색인으로 검색어의 gram을 모두 가진 게시글만 후보로 고르고,
+// Postgres 구현의 ILIKE와 같이 제목, 주소, 설명 중 하나에 검색어가 그대로(대소문자 무시) 포함됐는지 확인한다.
+// 유사도 대신 일치한 필드의 가중치로 정렬한다.
+// 색인은 게시글 수와 마지막 수정 시각이 바뀌었을 때만 다시 만든다.
+@Component
+@Profile("test")
+@RequiredArgsConstructor
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+  private static final double[] FIELD_WEIGHTS = {1.0, 0.8, 0.5};  // 제목, 주소, 설명
+
+  private final PostRepository postRepository;
+
+  private final Map<Long, UserIndex> indexes = new ConcurrentHashMap<>();
+
+  @Override
+  public Page<Long> search(User user, String query, Pageable pageable) {
+    String normalized = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+    if (normalized.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    UserIndex index = indexOf(user);
+    List<Hit> hits = new ArrayList<>();
+    for (Document document : index.candidates(NGramTokenizer.queryGrams(normalized))) {
+      double score = document.score(normalized);
+      if (score > 0) {
+        hits.add(new Hit(document, score));
+      }
+    }
+    hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+        .thenComparing(hit -> hit.document().date(), Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(hit -> hit.document().id(), Comparator.reverseOrder()));
+
+    int from = (int) Math.min(pageable.getOffset(), hits.size());
+    int to = Math.min(from + pageable.getPageSize(), hits.size());
+    List<Long> ids = hits.subList(from, to).stream().map(hit -> hit.document().id()).toList();
+    return new PageImpl<>(ids, pageable, hits.size());
+  }
+
+  private UserIndex indexOf(User user) {
+    PostSearchVersionQueryDto version = postRepository.findSearchVersion(user);
+    UserIndex index = indexes.get(user.getId());
+    if (index != null && index.matches(version)) {
+      return index;
+    }
+    index = UserIndex.build(version, postRepository.findSearchDocuments(user));
+    indexes.put(user.getId(), index);
+    return index;
+  }
+
+  private record UserIndex(long postCount, LocalDateTime lastUpdatedAt,
+                           List<Document> documents, Map<String, List<Integer>> postings) {
+
+    static UserIndex build(PostSearchVersionQueryDto version, List<PostSearchDocumentQueryDto> rows) {
+      List<Document> documents = new ArrayList<>(rows.size());
+      Map<String, List<Integer>> postings = new HashMap<>();
+      for (PostSearchDocumentQueryDto row : rows) {
+        Document document = Document.from(row);
+        int ordinal = documents.size();
+        documents.add(document);
+        for (String field : document.fields()) {
+          for (String gram : NGramTokenizer.indexGrams(field)) {
+            List<Integer> posting = postings.computeIfAbsent(gram, key -> new ArrayList<>());
+            if (posting.isEmpty() || posting.get(posting.size() - 1) != ordinal) {
+              posting.add(ordinal);
+            }
+          }
+        }
+      }
+      return new UserIndex(version.getPostCount(), version.getLastUpdatedAt(), documents, postings);
+    }
+
+    boolean matches(PostSearchVersionQueryDto version) {
+      return postCount == version.getPostCount() && Objects.equals(lastUpdatedAt, version.getLastUpdatedAt());
+    }
+
+    // 가장 짧은 posting부터 교집합을 구한다. posting은 문서 순번 오름차순이다.
+    List<Document> candidates(Set<String> grams) {
+      List<List<Integer>> lists = new ArrayList<>(grams.size());
+      for (String gram : grams) {
+        List<Integer> posting = postings.get(gram);
+        if (posting == null) {
+          return List.of();
+        }
+        lists.add(posting);
+      }
+      lists.sort(Comparator.comparingInt(List::size));
+
+      List<Integer> result = lists.get(0);
+      for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+        result = intersect(result, lists.get(i));
+      }
+      return result.stream().map(documents::get).toList();
+    }
+
+    private static List<Integer> intersect(List<Integer> left, List<Integer> right) {
+      List<Integer> result = new ArrayList<>(Math.min(left.size(), right.size()));
+      int i = 0;
+      int j = 0;
+      while (i < left.size() && j < right.size()) {
+        int compared = Integer.compare(left.get(i), right.get(j));
+        if (compared == 0) {
+          result.add(left.get(i));
+          i++;
+          j++;
+        } else if (compared < 0) {
+          i++;
+        } else {
+          j++;
+        }
+      }
+      return result;
+    }
+  }
+
+  // 필드는 소문자로 바꿔 둔다. null 필드는 빈 문자열이다.
+  private record Document(Long id, LocalDateTime date, String[] fields) {
+
+    static Document from(PostSearchDocumentQueryDto row) {
+      return new Document(row.getId(), row.getDate(), new String[]{
+          lower(row.getTitle()), lower(row.getAddress()), lower(row.getDescription())});
+    }
+
+    double score(String query) {
+      double score = 0;
+      for (int field = 0; field < fields.length; field++) {
+        if (fields[field].contains(query)) {
+          score = Math.max(score, FIELD_WEIGHTS[field]);
+        }
+      }
+      return score;
+    }
+
+    private static String lower(String value) {
+      return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private record Hit(Document document, double score) {
+  }
+}
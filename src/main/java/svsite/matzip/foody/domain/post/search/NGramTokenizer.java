@@ -0,0 +1,61 @@
+package svsite.matzip.foody.domain.post.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 한글은 형태소 분석 없이 글자 단위 n-gram으로 나눈다. 공백은 무시하고 영문은 소문자로 맞춘다.
+public final class NGramTokenizer {
+
+  static final int GRAM_SIZE = 2;
+
+  private NGramTokenizer() {}
+
+  // 색인용: 1-gram과 2-gram을 모두 만든다. (한 글자 검색어 지원)
+  public static Set<String> indexGrams(String text) {
+    String normalized = normalize(text);
+    Set<String> grams = new LinkedHashSet<>();
+    for (int n = 1; n <= GRAM_SIZE; n++) {
+      for (int i = 0; i + n <= normalized.length(); i++) {
+        grams.add(normalized.substring(i, i + n));
+      }
+    }
+    return grams;
+  }
+
+  // 검색어용: 2-gram, 검색어가 한 글자면 그 글자 하나
+  public static Set<String> queryGrams(String query) {
+    String normalized = normalize(query);
+    if (normalized.length() < GRAM_SIZE) {
+      return normalized.isEmpty() ? Set.of() : Set.of(normalized);
+    }
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+      grams.add(normalized.substring(i, i + GRAM_SIZE));
+    }
+    return grams;
+  }
+
+  // Postgres tsvector('simple')용 문자열. 기호가 섞인 gram은 텍스트 파서가 다시 쪼개므로 글자와 숫자로만 된 gram만 남긴다.
+  public static String joinWordGrams(Set<String> grams) {
+    return grams.stream()
+        .filter(NGramTokenizer::isWordGram)
+        .collect(Collectors.joining(" "));
+  }
+
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    StringBuilder normalized = new StringBuilder(text.length());
+    text.toLowerCase(Locale.ROOT).codePoints()
+        .filter(codePoint -> !Character.isWhitespace(codePoint))
+        .forEach(normalized::appendCodePoint);
+    return normalized.toString();
+  }
+
+  private static boolean isWordGram(String gram) {
+    return gram.codePoints().allMatch(Character::isLetterOrDigit);
+  }
+}
@@ -0,0 +1,11 @@
+package svsite.matzip.foody.domain.post.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import svsite.matzip.foody.domain.auth.entity.User;
+
+// 제목, 주소, 설명에서 검색어와 관련도가 높은 순으로 내 게시글 id를 조회한다.
+public interface PostSearchEngine {
+
+  Page<Long> search(User user, String query, Pageable pageable);
+}
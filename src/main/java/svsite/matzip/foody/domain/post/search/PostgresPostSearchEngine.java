@@ -0,0 +1,39 @@
+package svsite.matzip.foody.domain.post.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+
+// 검색어의 2-gram으로 search_grams 인덱스에서 후보를 좁히고(두 글자 한글 검색어는 트라이그램이 없다),
+// ILIKE로 연속 일치를 확인한 뒤 pg_trgm 유사도로 정렬한다.
+// 기호로만 된 검색어처럼 색인할 gram이 없으면 트라이그램 인덱스만 쓴다.
+// 확장과 인덱스는 PostTrigramIndexMigration, PostSearchGramsMigration이 서버 기동 시 만든다.
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class PostgresPostSearchEngine implements PostSearchEngine {
+
+  private final PostRepository postRepository;
+
+  @Override
+  public Page<Long> search(User user, String query, Pageable pageable) {
+    String normalized = query == null ? "" : query.strip();
+    if (normalized.isEmpty()) {
+      return Page.empty(pageable);
+    }
+    String pattern = "%" + escapeLike(normalized) + "%";
+    String grams = NGramTokenizer.joinWordGrams(NGramTokenizer.queryGrams(normalized));
+    if (grams.isEmpty()) {
+      return postRepository.searchRankedPostIds(user.getId(), normalized, pattern, pageable);
+    }
+    return postRepository.searchRankedPostIdsByGrams(user.getId(), normalized, grams, pattern, pageable);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
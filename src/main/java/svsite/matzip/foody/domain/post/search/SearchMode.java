@@ -0,0 +1,6 @@
+package svsite.matzip.foody.domain.post.search;
+
+public enum SearchMode {
+  LIKE,    // 제목/주소 부분 일치, 방문 날짜 최신순
+  RANKED   // 제목/주소/설명 n-gram 검색, 관련도순
+}
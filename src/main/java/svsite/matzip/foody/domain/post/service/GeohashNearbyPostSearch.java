@@ -0,0 +1,66 @@
+package svsite.matzip.foody.domain.post.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.global.util.geo.GeoDistance;
+
+// 반경을 덮는 바운딩 박스를 (user_id, geohash) 인덱스로 조회한 뒤 하버사인 거리로 거르고 정렬한다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.nearby.strategy", havingValue = "geohash", matchIfMissing = true)
+public class GeohashNearbyPostSearch implements NearbyPostSearch {
+
+  private static final Comparator<NearbyMarkerResponseDto> BY_DISTANCE =
+      Comparator.comparingDouble(NearbyMarkerResponseDto::distance)
+          .thenComparing(NearbyMarkerResponseDto::id);
+
+  private final PostRepository postRepository;
+
+  @Override
+  public Page<NearbyMarkerResponseDto> search(User user, Coordinate latitude, Coordinate longitude,
+      int radius, Pageable pageable) {
+    double centerLatitude = latitude.toDegrees();
+    double centerLongitude = longitude.toDegrees();
+    double latitudeDelta = GeoDistance.latitudeDelta(radius);
+    double longitudeDelta = GeoDistance.longitudeDelta(centerLatitude, radius);
+
+    List<PostMarkersQueryDto> candidates = MarkerBoundsQuery.find(postRepository, user,
+        Coordinate.ofDegrees(Math.max(-90.0, centerLatitude - latitudeDelta)),
+        Coordinate.ofDegrees(Math.min(90.0, centerLatitude + latitudeDelta)),
+        Coordinate.ofDegrees(Math.max(-180.0, centerLongitude - longitudeDelta)),
+        Coordinate.ofDegrees(Math.min(180.0, centerLongitude + longitudeDelta)));
+
+    List<NearbyMarkerResponseDto> nearby = new ArrayList<>();
+    for (PostMarkersQueryDto candidate : candidates) {
+      double distance = GeoDistance.haversine(centerLatitude, centerLongitude,
+          candidate.getLatitude().toDegrees(), candidate.getLongitude().toDegrees());
+      if (distance <= radius) {
+        nearby.add(NearbyMarkerResponseDto.builder()
+            .id(candidate.getId())
+            .latitude(candidate.getLatitude())
+            .longitude(candidate.getLongitude())
+            .color(candidate.getColor())
+            .score(candidate.getScore())
+            .distance(distance)
+            .build());
+      }
+    }
+    nearby.sort(BY_DISTANCE);
+
+    int from = (int) Math.min(pageable.getOffset(), nearby.size());
+    int to = Math.min(from + pageable.getPageSize(), nearby.size());
+    return new PageImpl<>(nearby.subList(from, to), pageable, nearby.size());
+  }
+}
@@ -0,0 +1,33 @@
+package svsite.matzip.foody.domain.post.service;
+
+import java.util.List;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.global.util.geo.GeoHash;
+
+final class MarkerBoundsQuery {
+
+  private MarkerBoundsQuery() {}
+
+  static List<PostMarkersQueryDto> find(PostRepository postRepository, User user,
+      Coordinate minLatitude, Coordinate maxLatitude,
+      Coordinate minLongitude, Coordinate maxLongitude) {
+    List<String> cells = GeoHash.coveringCells(
+        minLatitude.toDegrees(), minLongitude.toDegrees(),
+        maxLatitude.toDegrees(), maxLongitude.toDegrees());
+    // 쿼리는 항상 4개의 셀 범위를 받으므로 남는 자리는 첫 번째 셀로 채운다.
+    String[] ranges = new String[4];
+    for (int i = 0; i < ranges.length; i++) {
+      ranges[i] = cells.get(i < cells.size() ? i : 0);
+    }
+
+    return postRepository.findMarkersInBounds(user,
+        ranges[0], GeoHash.upperBound(ranges[0]),
+        ranges[1], GeoHash.upperBound(ranges[1]),
+        ranges[2], GeoHash.upperBound(ranges[2]),
+        ranges[3], GeoHash.upperBound(ranges[3]),
+        minLatitude, maxLatitude, minLongitude, maxLongitude);
+  }
+}
@@ -0,0 +1,88 @@
+package svsite.matzip.foody.domain.post.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.global.util.geo.GeoHash;
+
+final class MarkerClusterer {
+
+  private static final MarkerColor[] COLORS = MarkerColor.values();
+
+  private MarkerClusterer() {}
+
+  // 줌 레벨의 지도 타일(256px) 1/4 크기보다 큰 셀 중 가장 작은 geohash 정밀도를 고른다.
+  static int precisionForZoom(int zoom) {
+    double tileSpan = 360.0 / (1L << zoom);
+    int precision = GeoHash.precisionFor(tileSpan / 4, tileSpan / 4);
+    return Math.max(1, precision);
+  }
+
+  static List<MarkerClusterResponseDto> cluster(List<PostMarkersQueryDto> markers, int precision) {
+    Map<String, Bucket> buckets = new TreeMap<>();
+    for (PostMarkersQueryDto marker : markers) {
+      Coordinate latitude = marker.getLatitude();
+      Coordinate longitude = marker.getLongitude();
+      String cell = GeoHash.encode(latitude.toDegrees(), longitude.toDegrees(), precision);
+      buckets.computeIfAbsent(cell, key -> new Bucket())
+          .add(latitude, longitude, marker.getColor(), marker.getScore());
+    }
+
+    List<MarkerClusterResponseDto> clusters = new ArrayList<>(buckets.size());
+    buckets.forEach((geohash, bucket) -> clusters.add(bucket.toResponse(geohash)));
+    return clusters;
+  }
+
+  private static final class Bucket {
+
+    private int count;
+    private long latitudeSum;
+    private long longitudeSum;
+    private final int[] colorCounts = new int[COLORS.length];
+    private long scoreSum;
+    private int scoreCount;
+
+    void add(Coordinate latitude, Coordinate longitude, MarkerColor color, Integer score) {
+      count++;
+      latitudeSum += latitude.microDegrees();
+      longitudeSum += longitude.microDegrees();
+      if (color != null) {
+        colorCounts[color.ordinal()]++;
+      }
+      if (score != null) {
+        scoreSum += score;
+        scoreCount++;
+      }
+    }
+
+    MarkerClusterResponseDto toResponse(String geohash) {
+      return MarkerClusterResponseDto.builder()
+          .geohash(geohash)
+          .count(count)
+          .latitude(centroid(latitudeSum))
+          .longitude(centroid(longitudeSum))
+          .color(dominantColor())
+          .averageScore(scoreCount == 0 ? null : (double) scoreSum / scoreCount)
+          .build();
+    }
+
+    private MarkerColor dominantColor() {
+      int dominant = -1;
+      for (int i = 0; i < colorCounts.length; i++) {
+        if (colorCounts[i] > 0 && (dominant < 0 || colorCounts[i] > colorCounts[dominant])) {
+          dominant = i;
+        }
+      }
+      return dominant < 0 ? null : COLORS[dominant];
+    }
+
+    private Coordinate centroid(long sum) {
+      return new Coordinate((int) Math.round((double) sum / count));
+    }
+  }
+}
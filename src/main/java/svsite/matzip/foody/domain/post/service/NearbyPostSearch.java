@@ -0,0 +1,14 @@
+package svsite.matzip.foody.domain.post.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+
+// 기준 위치에서 반경 안의 내 마커를 가까운 순으로 조회한다. (post.nearby.strategy: geohash | postgis)
+public interface NearbyPostSearch {
+
+  Page<NearbyMarkerResponseDto> search(User user, Coordinate latitude, Coordinate longitude,
+      int radius, Pageable pageable);
+}
@@ -0,0 +1,85 @@
+package svsite.matzip.foody.domain.post.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.DailyActivityResponseDto;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.repository.PostDailyActivityRepository;
+
+@Service
+@RequiredArgsConstructor
+public class PostActivityService {
+
+  private final PostDailyActivityRepository activityRepository;
+
+  @Transactional(readOnly = true)
+  public List<DailyActivityResponseDto> getMonthActivity(int year, int month, User user) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+    return findActivities(user, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+  }
+
+  @Transactional(readOnly = true)
+  public List<DailyActivityResponseDto> getYearActivity(int year, User user) {
+    return findActivities(user, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+  }
+
+  private List<DailyActivityResponseDto> findActivities(User user, LocalDate from, LocalDate to) {
+    return activityRepository.findActivities(user, from, to).stream()
+        .map(DailyActivityResponseDto::from)
+        .toList();
+  }
+
+  // 아래 기록 메서드는 게시글 변경과 같은 트랜잭션에서 호출되어야 한다.
+  @Transactional
+  public void recordCreated(Post post) {
+    apply(post.getUser(), Snapshot.of(post), 1);
+  }
+
+  @Transactional
+  public void recordUpdated(Snapshot before, Post post) {
+    Snapshot after = Snapshot.of(post);
+    if (before.equals(after)) {
+      return;
+    }
+    apply(post.getUser(), before, -1);
+    apply(post.getUser(), after, 1);
+  }
+
+  @Transactional
+  public void recordDeleted(Post post) {
+    apply(post.getUser(), Snapshot.of(post), -1);
+  }
+
+  private void apply(User user, Snapshot snapshot, int sign) {
+    if (user == null || user.getId() == null) {
+      throw new IllegalStateException("저장되지 않은 사용자의 게시글은 집계할 수 없습니다.");
+    }
+    if (snapshot.day() == null) {
+      return;
+    }
+    MarkerColor color = snapshot.color();
+    activityRepository.accumulate(user.getId(), snapshot.day(), sign,
+        snapshot.score() == null ? 0 : (long) sign * snapshot.score(),
+        snapshot.score() == null ? 0 : sign,
+        color == MarkerColor.RED ? sign : 0,
+        color == MarkerColor.BLUE ? sign : 0,
+        color == MarkerColor.GREEN ? sign : 0,
+        color == MarkerColor.YELLOW ? sign : 0,
+        color == MarkerColor.PURPLE ? sign : 0);
+  }
+
+  // 집계에 반영되는 게시글 값. 수정 전 값을 보관해 두었다가 recordUpdated에 넘긴다.
+  public record Snapshot(LocalDate day, MarkerColor color, Integer score) {
+
+    public static Snapshot of(Post post) {
+      return new Snapshot(post.getDate() == null ? null : post.getDate().toLocalDate(),
+          post.getColor(), post.getScore());
+    }
+  }
+}
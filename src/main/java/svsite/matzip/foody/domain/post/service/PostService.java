@@ -2,11 +2,22 @@ package svsite.matzip.foody.domain.post.service;
 
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.POST_NOT_FOUND;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,59 +25,190 @@ import org.springframework.transaction.annotation.Transactional;
 import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.image.entity.Image;
 import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.request.MarkerBoundsDto;
+import svsite.matzip.foody.domain.post.api.dto.request.NearbySearchDto;
 import svsite.matzip.foody.domain.post.api.dto.request.UpdatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.response.CalendarDayResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerChangesResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.cache.MarkerCache;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
 import svsite.matzip.foody.domain.post.entity.Post;
 import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostCalendarQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkerChangeQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.domain.post.search.PostSearchEngine;
+import svsite.matzip.foody.global.auth.AuthPrincipal;
 import svsite.matzip.foody.global.exception.support.CustomException;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
+import svsite.matzip.foody.global.util.pagination.DateIdCursor;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+  // 변경 조회는 since보다 이 시간만큼 앞에서부터 다시 읽는다. (겹친 변경이 다시 내려가도 upsert와 삭제는 멱등이다)
+  // updatedAt은 커밋 직전 flush 시점의 앱 서버 시계로 기록되므로, 워터마크 이전 시각이 기록된 변경이 워터마크 이후에
+  // 커밋될 수 있다. 이 지연(쓰기 트랜잭션 제한 시간 WRITE_TIMEOUT_SECONDS 이하)과 서버 간 시계 오차(NTP 동기화)의 합이
+  // 이 값보다 작다고 가정한다.
+  static final Duration MARKER_SYNC_OVERLAP = Duration.ofSeconds(5);
+  // 툼스톤 보관 기간. since가 이보다 오래되면 툼스톤이 이미 지워졌을 수 있으므로 전체 목록으로 응답한다.
+  public static final Duration MARKER_SYNC_HORIZON = Duration.ofDays(30);
+  static final int WRITE_TIMEOUT_SECONDS = 2;
+
   private final PostRepository postRepository;
+  private final MarkerCache markerCache;
+  private final NearbyPostSearch nearbyPostSearch;
+  private final PostSearchEngine postSearchEngine;
+  private final PostActivityService postActivityService;
+
+  @Transactional(readOnly = true)
+  public List<MarkersResponseDto> getAllMarkers(AuthPrincipal principal) {
+    return markerCache.getOrLoad(principal.id(), () -> postRepository.getAllMarkers(principal.id()))
+        .toResponses();
+  }
 
   @Transactional(readOnly = true)
-  public List<MarkersResponseDto> getAllMarkers(User user) {
-    return postRepository.getAllMarkers(user).stream()
+  public MarkerChangesResponseDto getMarkerChanges(LocalDateTime since, User user) {
+    LocalDateTime watermark = LocalDateTime.now();
+    // 서버 시각보다 늦은 since는 서버가 발급한 워터마크가 아니므로 믿지 않고 전체 목록으로 응답한다.
+    if (since == null || since.isAfter(watermark) || since.isBefore(watermark.minus(MARKER_SYNC_HORIZON))) {
+      return MarkerChangesResponseDto.builder()
+          .upserts(getAllMarkers(AuthPrincipal.from(user)))
+          .deletedIds(List.of())
+          .watermark(watermark)
+          .fullSync(true)
+          .build();
+    }
+    LocalDateTime from = since.minus(MARKER_SYNC_OVERLAP);
+
+    List<MarkersResponseDto> upserts = new ArrayList<>();
+    List<Long> deletedIds = new ArrayList<>();
+    for (PostMarkerChangeQueryDto change : postRepository.findMarkerChanges(user, from, watermark)) {
+      if (change.getDeletedAt() != null) {
+        deletedIds.add(change.getId());
+        continue;
+      }
+      upserts.add(MarkersResponseDto.builder()
+          .id(change.getId())
+          .latitude(change.getLatitude())
+          .longitude(change.getLongitude())
+          .color(change.getColor())
+          .score(change.getScore())
+          .build());
+    }
+    return MarkerChangesResponseDto.builder()
+        .upserts(upserts)
+        .deletedIds(deletedIds)
+        .watermark(watermark)
+        .build();
+  }
+
+  @Transactional(readOnly = true)
+  public List<MarkersResponseDto> getMarkersInBounds(MarkerBoundsDto bounds, User user) {
+    return findMarkersInBounds(bounds, user).stream()
         .map(MarkersResponseDto::from)
         .toList();
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
+  public List<MarkerClusterResponseDto> getMarkerClusters(MarkerBoundsDto bounds, int zoom,
+      User user) {
+    return MarkerClusterer.cluster(findMarkersInBounds(bounds, user),
+        MarkerClusterer.precisionForZoom(zoom));
+  }
+
+  private List<PostMarkersQueryDto> findMarkersInBounds(MarkerBoundsDto bounds, User user) {
+    return MarkerBoundsQuery.find(postRepository, user,
+        Coordinate.of(bounds.minLatitude()), Coordinate.of(bounds.maxLatitude()),
+        Coordinate.of(bounds.minLongitude()), Coordinate.of(bounds.maxLongitude()));
+  }
+
+  @Transactional(readOnly = true)
+  public Page<NearbyMarkerResponseDto> getNearbyMarkers(NearbySearchDto search, Pageable pageable,
+      User user) {
+    return nearbyPostSearch.search(user, Coordinate.of(search.latitude()),
+        Coordinate.of(search.longitude()), search.radius(), pageable);
+  }
+
+  @Transactional(timeout = WRITE_TIMEOUT_SECONDS)
   public PostResponseDto createPost(CreatePostDto createPostDto, User user) {
     Post post = Post.create(createPostDto, user);
     postRepository.save(post);
+    postActivityService.recordCreated(post);
+    evictMarkers(user);
     return PostResponseDto.from(post);
   }
 
-  @Transactional
+  @Transactional(timeout = WRITE_TIMEOUT_SECONDS)
   public PostResponseDto updatePost(long id, UpdatePostDto updatePostDto, User user) {
     Post post = postRepository.findByPostIdAndUser(id, user)
         .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
+    PostActivityService.Snapshot before = PostActivityService.Snapshot.of(post);
     post.update(updatePostDto);
     post.updateImages(updatePostDto.imageUris().stream()
         .map(uri -> Image.builder().uri(uri).build())
         .toList());
 
     post = postRepository.save(post);
+    postActivityService.recordUpdated(before, post);
+    evictMarkers(user);
 
     return PostResponseDto.from(post);
   }
 
-  @Transactional
+  @Transactional(timeout = WRITE_TIMEOUT_SECONDS)
   public void deletePost(long id, User user) {
     Post post = postRepository.findByPostIdAndUser(id, user)
         .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
-    postRepository.delete(post);
+    post.softDelete();  // 델타 동기화에서 툼스톤으로 내려주기 위해 행을 남긴다.
+    postActivityService.recordDeleted(post);
+    evictMarkers(user);
+  }
+
+  private void evictMarkers(User user) {
+    if (user.getId() != null) {
+      markerCache.evictAfterCommit(user.getId());
+    }
   }
 
   @Transactional(readOnly = true)
-  public Page<PostResponseDto> getPosts(PageRequest pageable, User user) {
-    return postRepository.findAllRecentPost(pageable, user)
-        .map(PostResponseDto::from);
+  public Page<PostResponseDto> getPosts(PageRequest pageable, AuthPrincipal principal) {
+    Page<Long> ids = postRepository.findRecentPostIdPage(principal.id(), pageable);
+    return new PageImpl<>(findPostsInOrder(ids.getContent()), pageable, ids.getTotalElements());
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPageResponseDto<PostResponseDto> scrollPosts(String cursor, int size,
+      boolean withTotal, User user) {
+    DateIdCursor after = DateIdCursor.decode(cursor);
+    PageRequest limit = PageRequest.of(0, size + 1);  // 다음 페이지 여부 확인용으로 하나 더 조회
+    List<Long> ids = after == null
+        ? postRepository.findRecentPostIds(user, limit)
+        : postRepository.findRecentPostIdsAfter(user, after.date(), after.id(), limit);
+    Long total = withTotal ? postRepository.countByUserAndDeletedAtIsNull(user) : null;
+
+    return CursorPageResponseDto.of(findPostsInOrder(ids), size,
+        post -> new DateIdCursor(post.date(), post.id()), total);
+  }
+
+  private List<PostResponseDto> findPostsInOrder(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Post> posts = postRepository.findAllWithImagesByIdIn(ids).stream()
+        .collect(Collectors.toMap(Post::getId, Function.identity()));
+    return ids.stream()
+        .map(posts::get)
+        .filter(Objects::nonNull)
+        .map(PostResponseDto::from)
+        .toList();
   }
 
   @Transactional(readOnly = true)
@@ -78,7 +220,9 @@ public class PostService {
 
   @Transactional(readOnly = true)
   public Map<Integer, List<PostResponseDto>> getPostsByMonth(int year, int month, User user) {
-    List<Post> posts = postRepository.findPostsByMonth(year, month, user);
+    YearMonth yearMonth = YearMonth.of(year, month);
+    List<Post> posts = postRepository.findPostsBetween(user, yearMonth.atDay(1).atStartOfDay(),
+        yearMonth.plusMonths(1).atDay(1).atStartOfDay());
 
     return posts.stream()
         .collect(Collectors.groupingBy(
@@ -87,10 +231,62 @@ public class PostService {
         ));
   }
 
+  // 월간 캘린더에는 일자별 요약만 내려주고, 게시글 본문과 이미지는 getPostsByDate로 일자를 열 때 조회한다.
+  @Transactional(readOnly = true)
+  public List<CalendarDayResponseDto> getCalendar(int year, int month, User user) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+    List<PostCalendarQueryDto> entries = postRepository.findCalendarEntries(user,
+        yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+
+    Map<Integer, List<PostCalendarQueryDto>> byDay = entries.stream()
+        .collect(Collectors.groupingBy(entry -> entry.getDate().getDayOfMonth(), TreeMap::new,
+            Collectors.toList()));
+    List<CalendarDayResponseDto> days = new ArrayList<>(byDay.size());
+    byDay.forEach((day, dayEntries) -> days.add(toCalendarDay(day, dayEntries)));
+    return days;
+  }
+
+  @Transactional(readOnly = true)
+  public List<PostResponseDto> getPostsByDate(LocalDate date, User user) {
+    return postRepository.findPostsBetween(user, date.atStartOfDay(),
+            date.plusDays(1).atStartOfDay()).stream()
+        .map(PostResponseDto::from)
+        .toList();
+  }
+
+  private CalendarDayResponseDto toCalendarDay(int day, List<PostCalendarQueryDto> entries) {
+    int[] colorCounts = new int[MarkerColor.values().length];
+    Integer topScore = null;
+    for (PostCalendarQueryDto entry : entries) {
+      if (entry.getColor() != null) {
+        colorCounts[entry.getColor().ordinal()]++;
+      }
+      if (entry.getScore() != null && (topScore == null || entry.getScore() > topScore)) {
+        topScore = entry.getScore();
+      }
+    }
+    List<MarkerColor> colors = Arrays.stream(MarkerColor.values())
+        .filter(color -> colorCounts[color.ordinal()] > 0)
+        .sorted(Comparator.comparingInt((MarkerColor color) -> colorCounts[color.ordinal()]).reversed())
+        .toList();
+    return CalendarDayResponseDto.builder()
+        .day(day)
+        .count(entries.size())
+        .colors(colors)
+        .topScore(topScore)
+        .build();
+  }
+
   @Transactional(readOnly = true)
   public Page<PostResponseDto> searchMyPostsByTitleAndAddress(Pageable pageable, String query,
       User user) {
-    Page<Post> posts = postRepository.searchByTitleOrAddress(query, user, pageable);
-    return posts.map(PostResponseDto::from);
+    Page<Long> ids = postRepository.searchPostIdsByTitleOrAddress(query, user, pageable);
+    return new PageImpl<>(findPostsInOrder(ids.getContent()), pageable, ids.getTotalElements());
+  }
+
+  @Transactional(readOnly = true)
+  public Page<PostResponseDto> searchMyPostsRanked(String query, Pageable pageable, User user) {
+    Page<Long> ids = postSearchEngine.search(user, query, pageable);
+    return new PageImpl<>(findPostsInOrder(ids.getContent()), pageable, ids.getTotalElements());
   }
 }
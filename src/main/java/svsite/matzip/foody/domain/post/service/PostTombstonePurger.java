@@ -0,0 +1,36 @@
+package svsite.matzip.foody.domain.post.service;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.image.repository.ImageRepository;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+
+// 마커 동기화 보관 기간(PostService.MARKER_SYNC_HORIZON)이 지난 툼스톤을 지운다.
+// 그보다 오래된 since로 요청하면 전체 목록을 내려주므로 툼스톤이 더 필요 없다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTombstonePurger {
+
+  private final PostRepository postRepository;
+  private final ImageRepository imageRepository;
+  private final FavoriteRepository favoriteRepository;
+
+  @Scheduled(cron = "${post.tombstone.purge-cron:0 30 4 * * *}")
+  @Transactional
+  public void purge() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(PostService.MARKER_SYNC_HORIZON);
+    // 삭제 시점에 이미지와 즐겨찾기를 지우기 전에 만들어진 툼스톤도 있으므로 자식 행부터 지운다.
+    favoriteRepository.deleteAllOfPostsDeletedBefore(cutoff);
+    imageRepository.deleteAllOfPostsDeletedBefore(cutoff);
+    int purged = postRepository.deleteTombstonesBefore(cutoff);
+    if (purged > 0) {
+      log.info("게시글 툼스톤 정리 - {}건", purged);
+    }
+  }
+}
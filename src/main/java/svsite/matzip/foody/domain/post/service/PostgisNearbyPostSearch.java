@@ -0,0 +1,37 @@
+package svsite.matzip.foody.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+
+// PostGIS를 쓸 수 있는 DB에서 사용한다. (post.nearby.strategy=postgis)
+// 확장과 geography GiST 인덱스는 같은 설정일 때 PostGeographyIndexMigration이 서버 기동 시 만든다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.nearby.strategy", havingValue = "postgis")
+public class PostgisNearbyPostSearch implements NearbyPostSearch {
+
+  private final PostRepository postRepository;
+
+  @Override
+  public Page<NearbyMarkerResponseDto> search(User user, Coordinate latitude, Coordinate longitude,
+      int radius, Pageable pageable) {
+    return postRepository.findNearbyMarkers(user.getId(), latitude.toDegrees(),
+            longitude.toDegrees(), radius, pageable)
+        .map(row -> NearbyMarkerResponseDto.builder()
+            .id(row.getId())
+            .latitude(Coordinate.of(row.getLatitude()))
+            .longitude(Coordinate.of(row.getLongitude()))
+            .color(row.getColor() == null ? null : MarkerColor.valueOf(row.getColor()))
+            .score(row.getScore())
+            .distance(row.getDistance())
+            .build());
+  }
+}
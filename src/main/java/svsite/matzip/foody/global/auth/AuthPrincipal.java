@@ -0,0 +1,21 @@
+package svsite.matzip.foody.global.auth;
+
+import io.jsonwebtoken.Claims;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.global.constant.Constant;
+
+/**
+ * 검증된 액세스 토큰의 클레임만으로 만든 인증 정보. 사용자 조회 없이 user_id로 바로 조회하는 읽기 API에서 사용한다.
+ * 탈퇴한 사용자의 토큰이라도 만료 전까지는 만들어질 수 있으므로 사용자 행이 있어야 하는 쓰기 API는 User를 받는다.
+ */
+public record AuthPrincipal(long id, String email) {
+
+  public static AuthPrincipal from(User user) {
+    return new AuthPrincipal(user.getId(), user.getEmail());
+  }
+
+  // userId 클레임이 없는 토큰(클레임 추가 전에 발급된 토큰)이면 null
+  static Long userId(Claims claims) {
+    return claims.get(Constant.USER_ID) instanceof Number userId ? userId.longValue() : null;
+  }
+}
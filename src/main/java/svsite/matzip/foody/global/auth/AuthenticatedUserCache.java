@@ -0,0 +1,49 @@
+package svsite.matzip.foody.global.auth;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import svsite.matzip.foody.global.util.cache.ExpiringLruCache;
+
+// 토큰의 이메일로 사용자 id를 찾는 캐시. 사용자 정보는 캐시하지 않고 id만 보관한다.
+// 다른 인스턴스에서 탈퇴/로그아웃한 경우는 ttl이 지나야 반영된다.
+@Component
+public class AuthenticatedUserCache {
+
+  private final ExpiringLruCache<String, Long> userIds;
+
+  public AuthenticatedUserCache(@Value("${auth.user-cache.max-size:10000}") int maxSize,
+      @Value("${auth.user-cache.ttl:60s}") Duration ttl) {
+    this.userIds = new ExpiringLruCache<>(maxSize, ttl);
+  }
+
+  public Long findUserId(String email) {
+    return userIds.get(email);
+  }
+
+  public void put(String email, Long userId) {
+    if (userId != null) {
+      userIds.put(email, userId);
+    }
+  }
+
+  public void evict(String email) {
+    userIds.invalidate(email);
+  }
+
+  // 커밋 전에 다른 요청이 이전 상태로 다시 채우지 않도록 커밋 이후에도 한 번 더 제거한다.
+  public void evictAfterCommit(String email) {
+    evict(email);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        evict(email);
+      }
+    });
+  }
+}
@@ -8,7 +8,6 @@ import jakarta.annotation.Nullable;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -27,12 +26,14 @@ public class AuthenticatedUserResolver implements HandlerMethodArgumentResolver
 
   private final JwtUtil jwtUtil;
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final RefreshTokenHasher refreshTokenHasher;
+  private final AuthenticatedUserCache authenticatedUserCache;
 
   @Override
   public boolean supportsParameter(MethodParameter parameter) {
     AuthenticatedUser annotation = parameter.getParameterAnnotation(AuthenticatedUser.class);
-    return annotation != null && parameter.getParameterType().equals(User.class);
+    return annotation != null && (parameter.getParameterType().equals(User.class)
+        || parameter.getParameterType().equals(AuthPrincipal.class));
   }
 
   @Override
@@ -61,22 +62,47 @@ public class AuthenticatedUserResolver implements HandlerMethodArgumentResolver
       throw new CustomException("Invalid token type. Expected: " + requiredType);
     }
 
+    boolean principal = parameter.getParameterType().equals(AuthPrincipal.class);
+
+    // AuthPrincipal은 토큰의 userId 클레임으로 바로 만든다.
+    Long claimedUserId = AuthPrincipal.userId(claims);
+    if (principal && requiredType == JwtTokenType.ACCESS && claimedUserId != null) {
+      return new AuthPrincipal(claimedUserId, email);
+    }
+
+    // 액세스 토큰은 캐시된 id를 쓴다. AuthPrincipal은 조회 없이 만들고, User는 기본 키로 조회한다.
+    // 다른 인스턴스에서 탈퇴해 캐시가 남아 있으면 사용자가 없을 수 있으므로 프록시 대신 실제로 조회한다.
+    if (requiredType == JwtTokenType.ACCESS) {
+      Long userId = authenticatedUserCache.findUserId(email);
+      if (userId != null) {
+        if (principal) {
+          return new AuthPrincipal(userId, email);
+        }
+        return userRepository.findById(userId).orElseThrow(() -> {
+          authenticatedUserCache.evict(email);
+          return new CustomException(USER_NOT_FOUND);
+        });
+      }
+    }
+
     // 사용자 조회
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
     // RefreshToken 검증이 필요한 경우 추가 검증
-    if (requiredType == JwtTokenType.REFRESH) {
+    if (requiredType == JwtTokenType.ACCESS) {
+      authenticatedUserCache.put(email, user.getId());
+    } else if (requiredType == JwtTokenType.REFRESH) {
       String hashedRefreshToken = user.getHashedRefreshToken();
       if (hashedRefreshToken == null || hashedRefreshToken.isEmpty()) {
         throw new InvalidJwtTokenException(REFRESH_TOKEN_INVALID);
       }
 
-      if (!passwordEncoder.matches(token, hashedRefreshToken)) {
+      if (!refreshTokenHasher.matches(token, hashedRefreshToken)) {
         throw new CustomException(REFRESH_TOKEN_INVALID);
       }
     }
 
-    return user;
+    return principal ? AuthPrincipal.from(user) : user;
   }
 }
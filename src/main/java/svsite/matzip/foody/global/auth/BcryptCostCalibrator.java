@@ -0,0 +1,40 @@
+package svsite.matzip.foody.global.auth;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+// 이 서버에서 해시 한 번이 목표 시간 안에 끝나는 가장 큰 BCrypt 비용을 고른다.
+// 비용이 1 오를 때마다 소요 시간이 두 배가 되므로 최소 비용에서 측정한 값으로 나머지를 추정한다.
+public final class BcryptCostCalibrator {
+
+  private static final int SAMPLES = 3;
+
+  private BcryptCostCalibrator() {}
+
+  public static int calibrate(Duration target, int minStrength, int maxStrength) {
+    return calibrate(target, minStrength, maxStrength, BcryptCostCalibrator::measureNanos);
+  }
+
+  static int calibrate(Duration target, int minStrength, int maxStrength,
+      IntToLongFunction hashNanos) {
+    long measured = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {  // JIT 워밍업과 GC 영향을 줄이기 위해 가장 빠른 값을 사용한다
+      measured = Math.min(measured, hashNanos.applyAsLong(minStrength));
+    }
+    long targetNanos = target.toNanos();
+    int strength = minStrength;
+    while (strength < maxStrength && measured * 2 <= targetNanos) {
+      measured *= 2;
+      strength++;
+    }
+    return strength;
+  }
+
+  private static long measureNanos(int strength) {
+    String salt = BCrypt.gensalt(strength);
+    long start = System.nanoTime();
+    BCrypt.hashpw("calibration-password", salt);
+    return Math.max(1, System.nanoTime() - start);
+  }
+}
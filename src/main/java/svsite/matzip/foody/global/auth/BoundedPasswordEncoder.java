@@ -0,0 +1,106 @@
+package svsite.matzip.foody.global.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import svsite.matzip.foody.global.exception.errorCode.ErrorCodes;
+import svsite.matzip.foody.global.exception.support.CustomException;
+
+// 비밀번호 해시/검증을 고정 크기 전용 스레드에서 실행한다. 로그인 요청이 몰려도 CPU를 쓰는 스레드 수는 threads를 넘지 않고,
+// 대기열이 가득 차면 기다리지 않고 바로 503으로 거절해 요청 스레드가 지도/게시글 조회를 계속 처리할 수 있게 한다.
+// 호출한 스레드는 결과를 Future로 기다리므로 가상 스레드에서 호출해도 캐리어 스레드를 붙잡지 않는다.
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  static final String QUEUE_METRIC = "auth.password.queue";
+  static final String REJECTED_METRIC = "auth.password.rejected";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      MeterRegistry registry) {
+    this.delegate = delegate;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder(QUEUE_METRIC + ".depth", executor, e -> e.getQueue().size())
+        .description("대기 중인 비밀번호 해시 작업 수")
+        .register(registry);
+    Gauge.builder(QUEUE_METRIC + ".active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("실행 중인 비밀번호 해시 작업 수")
+        .register(registry);
+    this.queueWaitTimer = Timer.builder(QUEUE_METRIC + ".wait")
+        .description("비밀번호 해시 작업이 실행되기까지 대기한 시간")
+        .register(registry);
+    this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+        .description("대기열이 가득 차 거절된 비밀번호 해시 작업 수")
+        .register(registry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return task.call();
+      });
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw new CustomException(ErrorCodes.AUTH_BUSY, e);
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCodes.AUTH_BUSY, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package svsite.matzip.foody.global.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// 리프레시 토큰은 서명된 무작위 값이라 느린 해시가 필요 없으므로 HMAC-SHA256으로 저장한다.
+// "hmac$" 접두사가 없는 값은 이전에 BCrypt로 저장된 것이므로 다음 재발급으로 교체될 때까지 BCrypt로 검증한다.
+// 키는 jwt.refresh-token.hash-secret을 쓰고, 없으면 JWT 서명 키를 그대로 쓰지 않도록 HMAC(jwt.secret, "refresh-token-hash")로 파생한다.
+@Component
+public class RefreshTokenHasher {
+
+  static final String PREFIX = "hmac$";
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final String KEY_DERIVATION_LABEL = "refresh-token-hash";
+
+  private final SecretKeySpec key;
+  private final PasswordEncoder passwordEncoder;
+
+  public RefreshTokenHasher(
+      @Value("${jwt.secret}") String jwtSecret,
+      @Value("${jwt.refresh-token.hash-secret:}") String hashSecret,
+      PasswordEncoder passwordEncoder) {
+    this.key = hashSecret.isBlank()
+        ? new SecretKeySpec(mac(new SecretKeySpec(Base64.getDecoder().decode(jwtSecret), ALGORITHM),
+            KEY_DERIVATION_LABEL), ALGORITHM)
+        : new SecretKeySpec(Base64.getDecoder().decode(hashSecret), ALGORITHM);
+    this.passwordEncoder = passwordEncoder;
+  }
+
+  public String hash(String refreshToken) {
+    return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(key, refreshToken));
+  }
+
+  public boolean matches(String refreshToken, String hashedRefreshToken) {
+    if (hashedRefreshToken == null || hashedRefreshToken.isEmpty()) {
+      return false;
+    }
+    if (!hashedRefreshToken.startsWith(PREFIX)) {
+      return passwordEncoder.matches(refreshToken, hashedRefreshToken);
+    }
+    byte[] expected;
+    try {
+      expected = Base64.getUrlDecoder().decode(hashedRefreshToken.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    // 비교 시간이 일치하는 바이트 수에 따라 달라지지 않도록 상수 시간으로 비교한다.
+    return MessageDigest.isEqual(mac(key, refreshToken), expected);
+  }
+
+  private static byte[] mac(SecretKeySpec key, String value) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);  // Mac은 스레드 안전하지 않아 호출마다 만든다
+      mac.init(key);
+      return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
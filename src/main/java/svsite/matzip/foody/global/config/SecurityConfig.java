@@ -1,15 +1,52 @@
 package svsite.matzip.foody.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import svsite.matzip.foody.global.auth.BcryptCostCalibrator;
+import svsite.matzip.foody.global.auth.BoundedPasswordEncoder;
+import svsite.matzip.foody.global.monitoring.MeteredPasswordEncoder;
 
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
+  private static final String BCRYPT = "bcrypt";
+
+  // threads 기본값 0은 CPU 코어 수를 뜻한다.
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+      @Value("${auth.password.hashing.threads:0}") int threads,
+      @Value("${auth.password.hashing.queue-capacity:32}") int queueCapacity,
+      @Value("${auth.password.bcrypt.strength:0}") int strength,
+      @Value("${auth.password.bcrypt.target-time:250ms}") Duration targetTime,
+      @Value("${auth.password.bcrypt.min-strength:10}") int minStrength,
+      @Value("${auth.password.bcrypt.max-strength:14}") int maxStrength) {
+    int hashingThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(
+        new MeteredPasswordEncoder(delegatingPasswordEncoder(strength, targetTime, minStrength,
+            maxStrength), meterRegistry),
+        hashingThreads, queueCapacity, meterRegistry);
+  }
+
+  // 새 해시는 "{bcrypt}" 접두사를 붙여 저장하고, 접두사가 없는 기존 해시는 기본 BCrypt로 검증한다.
+  // 저장된 해시의 비용이 현재 비용보다 낮거나 접두사가 없으면 upgradeEncoding이 true가 되어 로그인 시 다시 해시된다.
+  private PasswordEncoder delegatingPasswordEncoder(int strength, Duration targetTime,
+      int minStrength, int maxStrength) {
+    int bcryptStrength = strength > 0 ? strength
+        : BcryptCostCalibrator.calibrate(targetTime, minStrength, maxStrength);
+    log.info("BCrypt 비용 {} 사용 (목표 {}ms)", bcryptStrength, targetTime.toMillis());
+
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT,
+        Map.of(BCRYPT, new BCryptPasswordEncoder(bcryptStrength)));
+    encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    return encoder;
   }
 }
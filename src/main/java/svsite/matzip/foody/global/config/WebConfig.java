@@ -3,18 +3,33 @@ package svsite.matzip.foody.global.config;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import svsite.matzip.foody.domain.post.api.converter.MarkersBinaryHttpMessageConverter;
 import svsite.matzip.foody.global.auth.AuthenticatedUserResolver;
+import svsite.matzip.foody.global.monitoring.EndpointQueryMetricsInterceptor;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
   private final AuthenticatedUserResolver authenticatedUserResolver;
+  private final EndpointQueryMetricsInterceptor endpointQueryMetricsInterceptor;
 
   @Override
   public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
     resolvers.add(authenticatedUserResolver); // 커스텀 Resolver 추가
   }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(endpointQueryMetricsInterceptor);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new MarkersBinaryHttpMessageConverter()); // JSON이 기본값이 되도록 마지막에 추가
+  }
 }
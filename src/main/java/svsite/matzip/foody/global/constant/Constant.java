@@ -2,4 +2,5 @@ package svsite.matzip.foody.global.constant;
 
 public class Constant {
   public final static String EMAIL = "email";
+  public final static String USER_ID = "userId";
 }
@@ -9,6 +9,7 @@ public enum ErrorCodes implements ErrorCode {
   USER_EMAIL_DUPLICATE("회원 이메일이 중복됩니다.", HttpStatus.CONFLICT),
   USER_WRONG_ID_OR_PASSWORD("아이디 혹은 비밀번호가 잘못되었습니다.", HttpStatus.BAD_REQUEST),
   USER_WRONG_PASSWORD("비밀번호가 잘못되었습니다.", HttpStatus.BAD_REQUEST),
+  AUTH_BUSY("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
 
   POST_NOT_FOUND("해당 게시물을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -17,6 +18,8 @@ public enum ErrorCodes implements ErrorCode {
 
   FAVORITE_DUPLICATE("즐겨 찾기를 중복으로 할 수 없습니다.", HttpStatus.CONFLICT),
 
+  INVALID_CURSOR("유효하지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+
   FILE_SIZE_OUT("파일 크기는 최대 20MB 입니다", HttpStatus.CONFLICT),
   ;
 
@@ -0,0 +1,12 @@
+package svsite.matzip.foody.global.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 서버가 요청을 받기 전에 한 번만 실행하는 데이터 변경. 실행 여부는 data_migration 테이블에 name으로 기록된다.
+// 실행 순서는 @Order로 정한다.
+public interface DataMigration {
+
+  String name();
+
+  void migrate(JdbcTemplate jdbcTemplate);
+}
@@ -0,0 +1,48 @@
+package svsite.matzip.foody.global.migration;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 모든 빈이 만들어진 뒤, 웹 서버가 요청을 받기 시작하기 전에 실행된다. (ApplicationRunner는 요청을 받은 뒤에 실행된다)
+// 여러 인스턴스가 동시에 뜨더라도 advisory lock으로 한 인스턴스만 실행하고, 나머지는 기록을 보고 건너뛴다.
+// 마이그레이션과 완료 기록은 같은 트랜잭션이라 실패하면 다음 기동 때 다시 실행된다.
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class DataMigrationRunner implements SmartInitializingSingleton {
+
+  private static final long LOCK_KEY = 0x666f6f6479L;  // "foody"
+
+  private final List<DataMigration> migrations;  // @Order 순서로 주입된다
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS data_migration ("
+        + "name varchar(100) PRIMARY KEY, "
+        + "applied_at timestamp NOT NULL DEFAULT now())");
+    migrations.forEach(this::run);
+  }
+
+  private void run(DataMigration migration) {
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, LOCK_KEY);
+      Integer applied = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM data_migration WHERE name = ?", Integer.class, migration.name());
+      if (applied != null && applied > 0) {
+        return;
+      }
+      migration.migrate(jdbcTemplate);
+      jdbcTemplate.update("INSERT INTO data_migration (name) VALUES (?)", migration.name());
+      log.info("데이터 마이그레이션 완료 - {}", migration.name());
+    });
+  }
+}
@@ -0,0 +1,84 @@
+package svsite.matzip.foody.global.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 컨트롤러 메서드별 SQL 실행 수, JDBC 시간, 읽은 행 수를 메트릭으로 남기고 기준을 넘으면 경고 로그를 남긴다.
+@Slf4j
+@Component
+public class EndpointQueryMetricsInterceptor implements HandlerInterceptor {
+
+  static final String STATEMENTS_METRIC = "endpoint.jdbc.statements";
+  static final String TIME_METRIC = "endpoint.jdbc.time";
+  static final String ROWS_METRIC = "endpoint.jdbc.rows";
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final int warnStatements;
+  private final Duration warnJdbcTime;
+
+  public EndpointQueryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${monitoring.jdbc.warn-statements:20}") int warnStatements,
+      @Value("${monitoring.jdbc.warn-time:500ms}") Duration warnJdbcTime) {
+    this.meterRegistry = meterRegistry;
+    this.warnStatements = warnStatements;
+    this.warnJdbcTime = warnJdbcTime;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (handler instanceof HandlerMethod) {
+      QueryStats.begin();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return;
+    }
+    QueryStats stats = QueryStats.end();
+    if (stats == null) {
+      return;
+    }
+
+    String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    meterRegistry.ifAvailable(registry -> record(registry, endpoint, stats));
+
+    if (stats.statements() > warnStatements || stats.jdbcNanos() > warnJdbcTime.toNanos()) {
+      log.warn("SQL 사용량 기준 초과 - endpoint: {}, uri: {}, statements: {}, jdbcTime: {}ms, rows: {}",
+          endpoint, request.getRequestURI(), stats.statements(),
+          TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos()), stats.rows());
+    }
+  }
+
+  private void record(MeterRegistry registry, String endpoint, QueryStats stats) {
+    DistributionSummary.builder(STATEMENTS_METRIC)
+        .description("요청 하나에서 실행된 SQL 수")
+        .tag("endpoint", endpoint)
+        .register(registry)
+        .record(stats.statements());
+    Timer.builder(TIME_METRIC)
+        .description("요청 하나에서 SQL 실행에 걸린 시간의 합")
+        .tag("endpoint", endpoint)
+        .register(registry)
+        .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(ROWS_METRIC)
+        .description("요청 하나에서 읽은 행 수")
+        .tag("endpoint", endpoint)
+        .register(registry)
+        .record(stats.rows());
+  }
+}
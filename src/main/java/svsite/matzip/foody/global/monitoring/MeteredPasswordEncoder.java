@@ -0,0 +1,52 @@
+package svsite.matzip.foody.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 비밀번호 해시/검증은 요청 스레드를 수십 ms씩 점유하므로 횟수와 소요 시간을 따로 남긴다.
+public class MeteredPasswordEncoder implements PasswordEncoder {
+
+  static final String ENCODE_METRIC = "auth.password.encode";
+  static final String VERIFY_METRIC = "auth.password.verify";
+
+  private final PasswordEncoder delegate;
+  private final Timer encodeTimer;
+  private final Timer matchTimer;
+  private final Timer mismatchTimer;
+
+  public MeteredPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.encodeTimer = Timer.builder(ENCODE_METRIC)
+        .description("비밀번호 해시 생성")
+        .register(registry);
+    this.matchTimer = verifyTimer(registry, "match");
+    this.mismatchTimer = verifyTimer(registry, "mismatch");
+  }
+
+  private static Timer verifyTimer(MeterRegistry registry, String result) {
+    return Timer.builder(VERIFY_METRIC)
+        .description("비밀번호 해시 검증")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encodeTimer.record(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    long start = System.nanoTime();
+    boolean matches = delegate.matches(rawPassword, encodedPassword);
+    (matches ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return matches;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
@@ -0,0 +1,98 @@
+package svsite.matzip.foody.global.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 커넥션, Statement, ResultSet을 감싸서 현재 요청의 QueryStats에 SQL 실행 수, 실행 시간, 읽은 행 수를 기록한다.
+public class QueryMetricsDataSource extends DelegatingDataSource {
+
+  public QueryMetricsDataSource(DataSource target) {
+    super(target);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Connection connection = super.getConnection();
+    return wrap(Connection.class, new ConnectionHandler(connection));
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    Connection connection = super.getConnection(username, password);
+    return wrap(Connection.class, new ConnectionHandler(connection));
+  }
+
+  private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(QueryMetricsDataSource.class.getClassLoader(),
+        new Class<?>[]{type}, handler));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = QueryMetricsDataSource.invoke(target, method, args);
+      if (result instanceof CallableStatement statement) {
+        return wrap(CallableStatement.class, new StatementHandler(statement));
+      }
+      if (result instanceof PreparedStatement statement) {
+        return wrap(PreparedStatement.class, new StatementHandler(statement));
+      }
+      if (result instanceof Statement statement) {
+        return wrap(Statement.class, new StatementHandler(statement));
+      }
+      return result;
+    }
+  }
+
+  private record StatementHandler(Statement target) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      QueryStats stats = QueryStats.current();
+      boolean execute = method.getName().startsWith("execute");
+      long start = execute ? System.nanoTime() : 0;
+      Object result = QueryMetricsDataSource.invoke(target, method, args);
+      if (stats == null) {
+        return result;
+      }
+      if (execute) {
+        stats.recordStatement(System.nanoTime() - start);
+      }
+      if (result instanceof ResultSet resultSet) {
+        return wrap(ResultSet.class, new ResultSetHandler(resultSet, stats));
+      }
+      return result;
+    }
+  }
+
+  private record ResultSetHandler(ResultSet target, QueryStats stats) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = QueryMetricsDataSource.invoke(target, method, args);
+      if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+        stats.recordRow();
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package svsite.matzip.foody.global.monitoring;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// 애플리케이션의 DataSource를 QueryMetricsDataSource로 감싼다.
+@Component
+public class QueryMetricsDataSourcePostProcessor implements BeanPostProcessor {
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof QueryMetricsDataSource)) {
+      return new QueryMetricsDataSource(dataSource);
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,51 @@
+package svsite.matzip.foody.global.monitoring;
+
+// 요청 하나에서 실행된 SQL 수, JDBC 실행 시간, 읽은 행 수. 요청 스레드의 ThreadLocal에 보관한다.
+public final class QueryStats {
+
+  private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+  private int statements;
+  private long jdbcNanos;
+  private long rows;
+
+  private QueryStats() {}
+
+  public static QueryStats begin() {
+    QueryStats stats = new QueryStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  // 요청 밖(배치, 스케줄러 등)에서는 null
+  public static QueryStats current() {
+    return CURRENT.get();
+  }
+
+  public static QueryStats end() {
+    QueryStats stats = CURRENT.get();
+    CURRENT.remove();
+    return stats;
+  }
+
+  void recordStatement(long nanos) {
+    statements++;
+    jdbcNanos += nanos;
+  }
+
+  void recordRow() {
+    rows++;
+  }
+
+  public int statements() {
+    return statements;
+  }
+
+  public long jdbcNanos() {
+    return jdbcNanos;
+  }
+
+  public long rows() {
+    return rows;
+  }
+}
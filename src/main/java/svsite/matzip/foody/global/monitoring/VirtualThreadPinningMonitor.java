@@ -0,0 +1,103 @@
+package svsite.matzip.foody.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드를 붙잡으면(pinning)
+// JFR jdk.VirtualThreadPinned 이벤트로 감지해 호출 위치별 메트릭과 경고 로그를 남긴다.
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(value = "monitoring.virtual-threads.pinning.enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+  private static final String APPLICATION_PACKAGE = "svsite.matzip.foody";
+  private static final int LOGGED_FRAMES = 10;
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+      @Value("${monitoring.virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public synchronized void start() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return recordingStream != null;
+  }
+
+  void onPinned(RecordedEvent event) {
+    List<StackTraceElement> frames = event.getStackTrace() == null ? List.of()
+        : event.getStackTrace().getFrames().stream()
+            .map(VirtualThreadPinningMonitor::toStackTraceElement)
+            .toList();
+    Timer.builder(PINNED_METRIC)
+        .description("캐리어 스레드를 붙잡은 가상 스레드 블로킹 시간")
+        .tag("site", site(frames))
+        .register(meterRegistry)
+        .record(event.getDuration());
+
+    log.warn("가상 스레드 pinning {}ms\n{}", event.getDuration().toMillis(), frames.stream()
+        .limit(LOGGED_FRAMES)
+        .map(VirtualThreadPinningMonitor::format)
+        .collect(Collectors.joining("\n")));
+  }
+
+  // 메트릭 태그 수가 늘지 않도록 애플리케이션 코드의 첫 호출 위치만 사용하고, 없으면 가장 위 프레임을 쓴다.
+  static String site(List<StackTraceElement> frames) {
+    return frames.stream()
+        .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+        .findFirst()
+        .or(() -> frames.stream().findFirst())
+        .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+        .orElse("unknown");
+  }
+
+  private static StackTraceElement toStackTraceElement(RecordedFrame frame) {
+    return new StackTraceElement(frame.getMethod().getType().getName(), frame.getMethod().getName(),
+        null, frame.getLineNumber());
+  }
+
+  private static String format(StackTraceElement frame) {
+    return "\tat " + frame.getClassName() + "." + frame.getMethodName()
+        + "(line " + frame.getLineNumber() + ")";
+  }
+
+  private static String simpleName(String className) {
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+}
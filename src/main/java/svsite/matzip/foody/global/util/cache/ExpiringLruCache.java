@@ -0,0 +1,58 @@
+package svsite.matzip.foody.global.util.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 저장 후 ttl이 지난 항목은 없는 것으로 본다.
+public class ExpiringLruCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  public ExpiringLruCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, System::nanoTime);
+  }
+
+  ExpiringLruCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.nanoClock = nanoClock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > ExpiringLruCache.this.maxSize;
+      }
+    };
+  }
+
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (nanoClock.getAsLong() - entry.storedAt() >= ttlNanos) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.value();
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+  }
+
+  public synchronized void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private record Entry<V>(V value, long storedAt) {
+  }
+}
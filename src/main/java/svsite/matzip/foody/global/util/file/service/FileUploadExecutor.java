@@ -0,0 +1,61 @@
+package svsite.matzip.foody.global.util.file.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 업로드 작업은 대부분 S3 응답을 기다리므로 가상 스레드에서 실행하고, 동시 업로드 수는 세마포어로 제한한다.
+// per-request는 한 요청 안에서, max-concurrent는 서버 전체에서 동시에 진행되는 업로드 수다.
+@Component
+public class FileUploadExecutor implements DisposableBean {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore globalPermits;
+  private final int perRequest;
+
+  public FileUploadExecutor(
+      @Value("${file.upload.per-request:4}") int perRequest,
+      @Value("${file.upload.max-concurrent:32}") int maxConcurrent) {
+    this.perRequest = perRequest;
+    this.globalPermits = new Semaphore(maxConcurrent);
+  }
+
+  public Batch newBatch() {
+    return new Batch(new Semaphore(perRequest));
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  public class Batch {
+
+    private final Semaphore requestPermits;
+
+    private Batch(Semaphore requestPermits) {
+      this.requestPermits = requestPermits;
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+      return executor.submit(() -> {
+        requestPermits.acquire();
+        try {
+          globalPermits.acquire();
+          try {
+            return task.call();
+          } finally {
+            globalPermits.release();
+          }
+        } finally {
+          requestPermits.release();
+        }
+      });
+    }
+  }
+}
@@ -1,27 +1,100 @@
 package svsite.matzip.foody.global.util.file.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import svsite.matzip.foody.global.config.ImageConfig;
+import svsite.matzip.foody.global.util.file.exception.FileStorageException;
 import svsite.matzip.foody.global.util.file.exception.FileUploadException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileUploadService {
 
   private final FileStorageService fileStorageService;
   private final ImageConfig imageConfig;
+  private final MeterRegistry meterRegistry;
+  private final FileUploadExecutor fileUploadExecutor;
+  private final Timer uploadSuccessTimer;
+  private final Timer uploadErrorTimer;
+  private final DistributionSummary uploadBytes;
 
+  public FileUploadService(FileStorageService fileStorageService, ImageConfig imageConfig,
+      MeterRegistry meterRegistry, FileUploadExecutor fileUploadExecutor) {
+    this.fileStorageService = fileStorageService;
+    this.imageConfig = imageConfig;
+    this.meterRegistry = meterRegistry;
+    this.fileUploadExecutor = fileUploadExecutor;
+    this.uploadSuccessTimer = uploadTimer(meterRegistry, "success");
+    this.uploadErrorTimer = uploadTimer(meterRegistry, "error");
+    this.uploadBytes = DistributionSummary.builder("upload.bytes")
+        .description("업로드된 이미지 파일 크기")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  private static Timer uploadTimer(MeterRegistry registry, String outcome) {
+    return Timer.builder("upload.file")
+        .description("이미지 파일 하나를 저장하는 데 걸린 시간")
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  // 모든 파일을 먼저 검증한 뒤 동시에 저장한다. 하나라도 실패하면 이미 저장한 파일을 지우고 예외를 던진다.
   public List<String> uploadFiles(List<MultipartFile> files) {
     validateFileCount(files.size());
+    files.forEach(this::validateFile);
 
-    return files.stream()
-        .map(this::validateAndSaveFile)
-        .collect(Collectors.toList());
+    FileUploadExecutor.Batch batch = fileUploadExecutor.newBatch();
+    AtomicBoolean failed = new AtomicBoolean();
+    List<Future<String>> futures = new ArrayList<>(files.size());
+    for (MultipartFile file : files) {
+      futures.add(batch.submit(() -> failed.get() ? null : saveFile(file, failed)));
+    }
+
+    // 인터럽트되더라도 이미 시작한 저장이 끝날 때까지 기다려야 저장된 파일을 빠짐없이 지울 수 있다.
+    // 기다리는 동안 받은 인터럽트는 정리를 마친 뒤 다시 설정한다.
+    List<String> fileNames = new ArrayList<>(files.size());
+    RuntimeException failure = null;
+    boolean interrupted = false;
+    for (Future<String> future : futures) {
+      while (true) {
+        try {
+          fileNames.add(future.get());
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+          failed.set(true);  // 아직 시작하지 않은 파일은 저장하지 않는다
+          failure = failure != null ? failure : new FileStorageException("파일 저장 중 오류 발생", e);
+        } catch (ExecutionException e) {
+          failure = failure != null ? failure : asRuntimeException(e.getCause());
+          break;
+        }
+      }
+    }
+
+    try {
+      if (failure != null) {
+        deleteStoredFiles(fileNames);
+        throw failure;
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return fileNames.stream()
+        .map(fileStorageService::getFileUrl)
+        .toList();
   }
 
   private void validateFileCount(int size) {
@@ -31,7 +104,7 @@ public class FileUploadService {
     }
   }
 
-  private String validateAndSaveFile(MultipartFile file) {
+  private void validateFile(MultipartFile file) {
     if (!Objects.requireNonNull(file.getContentType()).startsWith("image/")) {
       throw new FileUploadException("허용되지 않은 파일 형식입니다.");
     }
@@ -39,8 +112,41 @@ public class FileUploadService {
     if (file.getSize() > imageConfig.getMaxImageSize()) {
       throw new FileUploadException("파일 크기가 초과되었습니다. 최대 " + imageConfig.getMaxImageSize() + " bytes까지 허용됩니다.");
     }
+  }
+
+  private String saveFile(MultipartFile file, AtomicBoolean failed) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Timer timer = uploadErrorTimer;
+    try {
+      String fileName = fileStorageService.saveFile(file);
+      timer = uploadSuccessTimer;
+      uploadBytes.record(file.getSize());
+      return fileName;
+    } catch (RuntimeException e) {
+      failed.set(true);  // 아직 시작하지 않은 파일은 저장하지 않는다
+      throw e;
+    } finally {
+      sample.stop(timer);
+    }
+  }
 
-    String fileName = fileStorageService.saveFile(file);
-    return fileStorageService.getFileUrl(fileName);
+  private void deleteStoredFiles(List<String> fileNames) {
+    for (String fileName : fileNames) {
+      if (fileName == null) {
+        continue;
+      }
+      try {
+        fileStorageService.deleteFile(fileName);
+      } catch (RuntimeException e) {
+        log.warn("업로드 실패 후 저장된 파일 삭제 실패 - {}", fileName, e);
+      }
+    }
+  }
+
+  private static RuntimeException asRuntimeException(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new FileStorageException("파일 저장 중 오류 발생", cause);
   }
 }
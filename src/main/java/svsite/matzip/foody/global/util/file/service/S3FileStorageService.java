@@ -1,9 +1,18 @@
 package svsite.matzip.foody.global.util.file.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -11,48 +20,152 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import svsite.matzip.foody.global.util.file.exception.FileStorageException;
 
+// 업로드 파일을 힙에 통째로 올리지 않고 스트림으로 S3에 보낸다.
+// multipart-threshold 이하는 PutObject 한 번으로, 그보다 크면 part-size 버퍼 하나를 재사용하며 멀티파트 업로드로 보낸다.
 @Slf4j
 @Component
 @Profile("prod") // 배포 환경에서만 실행
-@RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
 
   private final S3Client s3Client;
+  private final MeterRegistry meterRegistry;
+  private final Map<Operation, RequestTimers> requestTimers = new EnumMap<>(Operation.class);
 
   @Value("${aws.s3.bucket-name}")
   private String bucketName;
 
+  @Value("${aws.s3.multipart-threshold:16777216}")
+  private long multipartThreshold;
+
+  // S3 멀티파트 업로드의 마지막을 제외한 파트는 최소 5MB여야 한다.
+  @Value("${aws.s3.part-size:8388608}")
+  private int partSize;
+
+  public S3FileStorageService(S3Client s3Client, MeterRegistry meterRegistry) {
+    this.s3Client = s3Client;
+    this.meterRegistry = meterRegistry;
+    for (Operation operation : Operation.values()) {
+      requestTimers.put(operation, new RequestTimers(
+          requestTimer(meterRegistry, operation, "success"),
+          requestTimer(meterRegistry, operation, "error")));
+    }
+  }
+
+  private static Timer requestTimer(MeterRegistry registry, Operation operation, String outcome) {
+    return Timer.builder("storage.s3.requests")
+        .description("S3 요청 소요 시간")
+        .tag("operation", operation.tag)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
   @Override
   public String saveFile(MultipartFile file) {
+    String fileName = UUID.randomUUID() + getFileExtension(
+        Objects.requireNonNull(file.getOriginalFilename()));
     try {
-      String fileName = UUID.randomUUID() + getFileExtension(
-          Objects.requireNonNull(file.getOriginalFilename()));
+      if (file.getSize() > multipartThreshold) {
+        putMultipart(file, fileName);
+      } else {
+        put(file, fileName);
+      }
+      return fileName;
+    } catch (IOException | UncheckedIOException e) {
+      throw new FileStorageException("파일 저장 중 오류 발생", e);
+    }
+  }
 
-      PutObjectRequest request = PutObjectRequest.builder()
-          .bucket(bucketName)
-          .key(fileName)
-          .contentType(file.getContentType())
-          .build();
+  // 재시도할 때마다 getInputStream으로 처음부터 다시 읽으므로 내용을 메모리에 보관할 필요가 없다.
+  private void put(MultipartFile file, String fileName) {
+    PutObjectRequest request = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(fileName)
+        .contentType(file.getContentType())
+        .contentLength(file.getSize())
+        .build();
 
-      s3Client.putObject(request, RequestBody.fromBytes(file.getBytes()));
+    RequestBody body = RequestBody.fromContentProvider(() -> openStream(file), file.getSize(),
+        file.getContentType());
+    timed(Operation.PUT, () -> s3Client.putObject(request, body));
+  }
 
-      return fileName;
-    } catch (IOException e) {
-      throw new FileStorageException("파일 저장 중 오류 발생", e);
+  private void putMultipart(MultipartFile file, String fileName) throws IOException {
+    String uploadId = timed(Operation.CREATE_MULTIPART, () -> s3Client.createMultipartUpload(
+        CreateMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(fileName)
+            .contentType(file.getContentType())
+            .build())).uploadId();
+
+    try (InputStream in = file.getInputStream()) {
+      byte[] buffer = new byte[partSize];
+      List<CompletedPart> parts = new ArrayList<>();
+      int length;
+      while ((length = in.readNBytes(buffer, 0, partSize)) > 0) {
+        parts.add(uploadPart(fileName, uploadId, parts.size() + 1, buffer, length));
+      }
+
+      timed(Operation.COMPLETE_MULTIPART, () -> s3Client.completeMultipartUpload(
+          CompleteMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(fileName)
+              .uploadId(uploadId)
+              .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+              .build()));
+    } catch (IOException | RuntimeException e) {
+      abortMultipart(fileName, uploadId);
+      throw e;
+    }
+  }
+
+  private CompletedPart uploadPart(String fileName, String uploadId, int partNumber, byte[] buffer,
+      int length) {
+    UploadPartRequest request = UploadPartRequest.builder()
+        .bucket(bucketName)
+        .key(fileName)
+        .uploadId(uploadId)
+        .partNumber(partNumber)
+        .contentLength((long) length)
+        .build();
+
+    // 버퍼를 복사하지 않고 재시도 시 같은 구간을 다시 읽는다.
+    RequestBody body = RequestBody.fromContentProvider(
+        () -> new ByteArrayInputStream(buffer, 0, length), length, "application/octet-stream");
+    String eTag = timed(Operation.UPLOAD_PART, () -> s3Client.uploadPart(request, body)).eTag();
+    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+  }
+
+  // 완료되지 않은 멀티파트 업로드는 파트가 계속 과금되므로 실패하면 취소한다.
+  private void abortMultipart(String fileName, String uploadId) {
+    try {
+      timed(Operation.ABORT_MULTIPART, () -> s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(fileName)
+              .uploadId(uploadId)
+              .build()));
+    } catch (RuntimeException e) {
+      log.warn("멀티파트 업로드 취소 실패 - key: {}, uploadId: {}", fileName, uploadId, e);
     }
   }
 
   @Override
   public void deleteFile(String fileName) {
     try {
-      s3Client.deleteObject(DeleteObjectRequest.builder()
+      timed(Operation.DELETE, () -> s3Client.deleteObject(DeleteObjectRequest.builder()
           .bucket(bucketName)
           .key(fileName)
-          .build());
+          .build()));
     } catch (Exception e) {
       throw new FileStorageException("파일 삭제 중 오류 발생", e);
     }
@@ -63,7 +176,46 @@ public class S3FileStorageService implements FileStorageService {
     return "https://" + bucketName + ".s3.amazonaws.com/" + fileName;
   }
 
+  private static InputStream openStream(MultipartFile file) {
+    try {
+      return file.getInputStream();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private <T> T timed(Operation operation, Supplier<T> request) {
+    RequestTimers timers = requestTimers.get(operation);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Timer timer = timers.error();
+    try {
+      T response = request.get();
+      timer = timers.success();
+      return response;
+    } finally {
+      sample.stop(timer);
+    }
+  }
+
   private String getFileExtension(String filename) {
     return filename.substring(filename.lastIndexOf("."));
   }
+
+  private enum Operation {
+    PUT("put"),
+    CREATE_MULTIPART("create_multipart"),
+    UPLOAD_PART("upload_part"),
+    COMPLETE_MULTIPART("complete_multipart"),
+    ABORT_MULTIPART("abort_multipart"),
+    DELETE("delete");
+
+    private final String tag;
+
+    Operation(String tag) {
+      this.tag = tag;
+    }
+  }
+
+  private record RequestTimers(Timer success, Timer error) {
+  }
 }
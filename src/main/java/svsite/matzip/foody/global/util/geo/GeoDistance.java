@@ -0,0 +1,33 @@
+package svsite.matzip.foody.global.util.geo;
+
+public final class GeoDistance {
+
+  public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+  private GeoDistance() {}
+
+  // 두 지점 사이의 대원 거리(m)
+  public static double haversine(double latitude1, double longitude1,
+      double latitude2, double longitude2) {
+    double dLatitude = Math.toRadians(latitude2 - latitude1);
+    double dLongitude = Math.toRadians(longitude2 - longitude1);
+    double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+        + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+        * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  // 반경(m)을 덮는 위도 폭(도)
+  public static double latitudeDelta(double radiusMeters) {
+    return Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+  }
+
+  // 해당 위도에서 반경(m)을 덮는 경도 폭(도). 극점 근처에서는 경도 전체를 덮는다.
+  public static double longitudeDelta(double latitude, double radiusMeters) {
+    double cos = Math.cos(Math.toRadians(latitude));
+    if (cos < 1e-6) {
+      return 180.0;
+    }
+    return Math.min(180.0, Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cos)));
+  }
+}
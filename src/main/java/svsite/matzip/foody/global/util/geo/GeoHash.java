@@ -0,0 +1,101 @@
+package svsite.matzip.foody.global.util.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GeoHash {
+
+  public static final int MAX_PRECISION = 12;
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final char LAST_CHAR = BASE32[BASE32.length - 1];
+
+  private GeoHash() {}
+
+  public static String encode(double latitude, double longitude) {
+    return encode(latitude, longitude, MAX_PRECISION);
+  }
+
+  public static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90, maxLat = 90;
+    double minLng = -180, maxLng = 180;
+    char[] hash = new char[precision];
+    boolean isLongitudeBit = true;
+    int bit = 0;
+    int ch = 0;
+    int index = 0;
+
+    while (index < precision) {
+      if (isLongitudeBit) {
+        double mid = (minLng + maxLng) / 2;
+        if (longitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLng = mid;
+        } else {
+          ch <<= 1;
+          maxLng = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLat = mid;
+        } else {
+          ch <<= 1;
+          maxLat = mid;
+        }
+      }
+      isLongitudeBit = !isLongitudeBit;
+
+      if (++bit == 5) {
+        hash[index++] = BASE32[ch];
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return new String(hash);
+  }
+
+  // 영역보다 크거나 같은 셀 정밀도를 골라 최대 2x2 개의 셀로 영역을 덮는다.
+  public static List<String> coveringCells(double minLatitude, double minLongitude,
+      double maxLatitude, double maxLongitude) {
+    int precision = precisionFor(maxLatitude - minLatitude, maxLongitude - minLongitude);
+
+    List<String> cells = new ArrayList<>(4);
+    addDistinct(cells, encode(minLatitude, minLongitude, precision));
+    addDistinct(cells, encode(minLatitude, maxLongitude, precision));
+    addDistinct(cells, encode(maxLatitude, minLongitude, precision));
+    addDistinct(cells, encode(maxLatitude, maxLongitude, precision));
+    return cells;
+  }
+
+  // 같은 길이의 geohash 문자열에서 prefix로 시작하는 값 중 가장 큰 값
+  public static String upperBound(String prefix) {
+    return prefix + String.valueOf(LAST_CHAR).repeat(MAX_PRECISION - prefix.length());
+  }
+
+  public static int precisionFor(double latitudeSpan, double longitudeSpan) {
+    int precision = 0;
+    while (precision < MAX_PRECISION
+        && cellHeight(precision + 1) >= latitudeSpan
+        && cellWidth(precision + 1) >= longitudeSpan) {
+      precision++;
+    }
+    return precision;
+  }
+
+  public static double cellWidth(int precision) {
+    int longitudeBits = (precision * 5 + 1) / 2;
+    return 360.0 / (1L << longitudeBits);
+  }
+
+  public static double cellHeight(int precision) {
+    int latitudeBits = precision * 5 / 2;
+    return 180.0 / (1L << latitudeBits);
+  }
+
+  private static void addDistinct(List<String> cells, String cell) {
+    if (!cells.contains(cell)) {
+      cells.add(cell);
+    }
+  }
+}
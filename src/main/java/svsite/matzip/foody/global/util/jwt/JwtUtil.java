@@ -3,11 +3,14 @@ package svsite.matzip.foody.global.util.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
@@ -22,6 +25,17 @@ public class JwtUtil {
   private final long accessTokenExpiration;
   private final long refreshTokenExpiration;
   private final Key signingKey;
+  // 빌드된 JwtParser는 불변이라 스레드 간에 공유할 수 있다.
+  private final JwtParser jwtParser;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final MeterRegistry meterRegistry;
+  private final Counter validParses;
+  private final Counter cachedValidations;
+  private final Counter expiredParses;
+  private final Counter unsupportedParses;
+  private final Counter malformedParses;
+  private final Counter invalidSignatureParses;
+  private final Counter invalidParses;
   private static final String TYPE_CLAIM = "type";
   private static final String EMAIL_CLAIM = "email";
   private static final String BEARER_TOKEN = "Bearer ";
@@ -29,11 +43,27 @@ public class JwtUtil {
   public JwtUtil(
       @Value("${jwt.secret}") String secretKey,
       @Value("${jwt.expiration.access-token}") long accessTokenExpiration,
-      @Value("${jwt.expiration.refresh-token}") long refreshTokenExpiration) {
+      @Value("${jwt.expiration.refresh-token}") long refreshTokenExpiration,
+      @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheSize,
+      MeterRegistry meterRegistry) {
     this.accessTokenExpiration = accessTokenExpiration;
     this.refreshTokenExpiration = refreshTokenExpiration;
     byte[] decodedKey = Base64.getDecoder().decode(secretKey);
     this.signingKey = Keys.hmacShaKeyFor(decodedKey);
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKey(signingKey)
+        .build();
+    this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
+    this.meterRegistry = meterRegistry;
+    this.validParses = parseCounter("valid");
+    this.cachedValidations = Counter.builder("auth.jwt.cache.hits")
+        .description("검증 캐시로 처리한 JWT 검증 횟수")
+        .register(meterRegistry);
+    this.expiredParses = parseCounter("expired");
+    this.unsupportedParses = parseCounter("unsupported");
+    this.malformedParses = parseCounter("malformed");
+    this.invalidSignatureParses = parseCounter("invalid_signature");
+    this.invalidParses = parseCounter("invalid");
   }
 
   public String generateAccessToken(Map<String, Object> payload) {
@@ -61,27 +91,45 @@ public class JwtUtil {
         .compact();
   }
 
-  // 토큰 검증
+  // 토큰 검증. 같은 액세스 토큰이 반복해서 들어오므로 검증된 클레임을 exp까지 재사용한다.
   public Claims validateToken(String token) {
+    Claims cached = verifiedTokenCache.get(token);
+    if (cached != null) {
+      cachedValidations.increment();
+      return cached;
+    }
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(signingKey)
-          .build()
-          .parseClaimsJws(token)
-          .getBody();
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+      validParses.increment();
+      if (JwtTokenType.ACCESS.name().equals(claims.get(TYPE_CLAIM))) {
+        verifiedTokenCache.put(token, claims);
+      }
+      return claims;
     } catch (ExpiredJwtException e) {
+      expiredParses.increment();
       throw new InvalidJwtTokenException(JwtErrorMessages.TOKEN_EXPIRED, e);
     } catch (UnsupportedJwtException e) {
+      unsupportedParses.increment();
       throw new InvalidJwtTokenException(JwtErrorMessages.TOKEN_UNSUPPORTED, e);
     } catch (MalformedJwtException e) {
+      malformedParses.increment();
       throw new InvalidJwtTokenException(JwtErrorMessages.TOKEN_MALFORMED, e);
     } catch (SecurityException e) {
+      invalidSignatureParses.increment();
       throw new InvalidJwtTokenException(JwtErrorMessages.TOKEN_INVALID_SIGNATURE, e);
     } catch (JwtException e) {
+      invalidParses.increment();
       throw new InvalidJwtTokenException(JwtErrorMessages.TOKEN_INVALID, e);
     }
   }
 
+  private Counter parseCounter(String result) {
+    return Counter.builder("auth.jwt.parses")
+        .description("JWT 검증 횟수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
   private Date calculateExpiration(long duration) {
     return new Date(System.currentTimeMillis() + duration);
   }
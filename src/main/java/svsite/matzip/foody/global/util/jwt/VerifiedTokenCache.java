@@ -0,0 +1,102 @@
+package svsite.matzip.foody.global.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 서명 검증을 통과한 토큰의 클레임을 토큰 전체(서명 포함)의 SHA-256 값으로 보관한다.
+// 검증에 성공한 토큰만 저장하므로 서명이 한 글자라도 다른 토큰은 캐시에 걸리지 않는다.
+// 항목은 토큰의 exp까지만 유효하다. maxSize가 0이면 캐시하지 않는다.
+// Claims는 변경 가능한 Map이라 여러 요청 스레드가 공유하지 않도록 변경 불가능한 사본을 저장하고, 조회할 때마다 새 Claims로 돌려준다.
+class VerifiedTokenCache {
+
+  private final int maxSize;
+  private final LongSupplier clock;
+  private final ConcurrentHashMap<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+
+  VerifiedTokenCache(int maxSize) {
+    this(maxSize, System::currentTimeMillis);
+  }
+
+  VerifiedTokenCache(int maxSize, LongSupplier clock) {
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  Claims get(String token) {
+    if (maxSize <= 0) {
+      return null;
+    }
+    TokenDigest digest = TokenDigest.of(token);
+    Entry entry = entries.get(digest);
+    if (entry == null) {
+      return null;
+    }
+    if (clock.getAsLong() >= entry.expiresAt()) {
+      entries.remove(digest, entry);
+      return null;
+    }
+    return Jwts.claims(entry.claims());
+  }
+
+  // exp가 없는 토큰은 언제까지 유효한지 알 수 없으므로 저장하지 않는다.
+  void put(String token, Claims claims) {
+    Date expiration = claims.getExpiration();
+    if (maxSize <= 0 || expiration == null) {
+      return;
+    }
+    if (entries.size() >= maxSize) {
+      prune();
+    }
+    entries.put(TokenDigest.of(token),
+        new Entry(Collections.unmodifiableMap(new HashMap<>(claims)), expiration.getTime()));
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 자리를 만든다.
+  private synchronized void prune() {
+    if (entries.size() < maxSize) {
+      return;
+    }
+    long now = clock.getAsLong();
+    entries.values().removeIf(entry -> now >= entry.expiresAt());
+
+    Iterator<Map.Entry<TokenDigest, Entry>> iterator = entries.entrySet().iterator();
+    while (entries.size() >= maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private record Entry(Map<String, Object> claims, long expiresAt) {
+  }
+
+  private record TokenDigest(long first, long second, long third, long fourth) {
+
+    static TokenDigest of(String token) {
+      ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+      return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+
+    private static MessageDigest sha256() {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package svsite.matzip.foody.global.util.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "커서 기반 페이지 응답 DTO")
+public record CursorPageResponseDto<T>(
+    @Schema(description = "조회된 항목 목록")
+    List<T> content,
+
+    @Schema(description = "다음 페이지 요청 시 cursor로 전달할 토큰 (마지막 페이지면 null)", example = "MjAyNS0wMi0wOFQxMjowMHw0Mg")
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "전체 항목 수 (withTotal=true 로 요청한 경우에만 포함)", example = "128")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long totalElements
+) {
+
+  // size + 1 개를 조회한 결과로 다음 페이지 여부를 판단하고 마지막 항목의 커서를 만든다.
+  public static <T> CursorPageResponseDto<T> of(List<T> rows, int size,
+      Function<T, DateIdCursor> cursorOf, Long totalElements) {
+    boolean hasNext = rows.size() > size;
+    List<T> content = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+    return new CursorPageResponseDto<>(content, nextCursor, hasNext, totalElements);
+  }
+}
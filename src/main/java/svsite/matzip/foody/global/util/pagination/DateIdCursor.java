@@ -0,0 +1,39 @@
+package svsite.matzip.foody.global.util.pagination;
+
+import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.INVALID_CURSOR;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import svsite.matzip.foody.global.exception.support.CustomException;
+
+// (date, id) 키셋 페이지네이션의 위치. 클라이언트에는 base64url 토큰으로만 노출한다.
+public record DateIdCursor(LocalDateTime date, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    String raw = date.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 토큰이 비어 있으면 첫 페이지를 의미하므로 null을 반환한다.
+  public static DateIdCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new CustomException(INVALID_CURSOR);
+      }
+      return new DateIdCursor(LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(INVALID_CURSOR, e);
+    }
+  }
+}
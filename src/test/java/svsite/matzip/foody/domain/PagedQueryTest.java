@@ -0,0 +1,107 @@
+package svsite.matzip.foody.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.favorite.entity.Favorite;
+import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.global.config.AuditConfig;
+
+// 컬렉션 fetch join과 페이징을 함께 쓰면 Hibernate가 전체 행을 읽어 메모리에서 페이징한다. (HHH90003004)
+// application.yml의 fail_on_pagination_over_collection_fetch 설정으로 이 경우 예외가 나므로, 페이징 쿼리를 실제로 실행해 확인한다.
+// Postgres 전용 네이티브 쿼리(findNearbyMarkers, searchRankedPostIds, searchRankedPostIdsByGrams)는 H2에서 실행할 수 없어 제외한다.
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@ActiveProfiles("test")
+@Import(AuditConfig.class)
+class PagedQueryTest {
+
+  private static final int POST_COUNT = 4;
+  private static final PageRequest PAGE = PageRequest.of(0, 2);
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private FavoriteRepository favoriteRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(User.builder()
+        .email("paged-query@example.com")
+        .password("password")
+        .build());
+    for (int i = 1; i <= POST_COUNT; i++) {
+      Post post = entityManager.persist(Post.create(new CreatePostDto(
+          BigDecimal.valueOf(37.5665), BigDecimal.valueOf(126.9780), MarkerColor.RED,
+          "서울특별시 종로구", "맛집 " + i, "설명 " + i,
+          LocalDateTime.of(2025, 2, i, 12, 0), i,
+          List.of("https://example.com/" + i + "-1.jpg", "https://example.com/" + i + "-2.jpg")), user));
+      entityManager.persist(Favorite.builder().post(post).user(user).build());
+    }
+    entityManager.flush();
+    entityManager.getEntityManager().createQuery("UPDATE Post p SET p.geohash = NULL").executeUpdate();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("메모리 페이징이 발생하면 경고 대신 예외가 발생하도록 설정되어 있다")
+  void failsOnPaginationOverCollectionFetch() {
+    assertThatThrownBy(() -> entityManager.getEntityManager()
+        .createQuery("SELECT p FROM Post p LEFT JOIN FETCH p.images", Post.class)
+        .setMaxResults(2)
+        .getResultList())
+        .hasStackTraceContaining("fail_on_pagination_over_collection_fetch");
+  }
+
+  @Test
+  @DisplayName("게시글 페이징 쿼리는 DB에서 페이징된다")
+  void postRepositoryPagedQueries() {
+    assertThat(postRepository.findRecentPostIdPage(user.getId(), PAGE).getContent()).hasSize(2);
+    assertThat(postRepository.findRecentPostIdPage(user.getId(), PAGE).getTotalElements())
+        .isEqualTo(POST_COUNT);
+    assertThat(postRepository.findRecentPostIds(user, PAGE)).hasSize(2);
+    assertThat(postRepository.findRecentPostIdsAfter(user, LocalDateTime.of(2025, 2, 3, 12, 0),
+        Long.MAX_VALUE, PAGE)).hasSize(2);
+    assertThat(postRepository.searchPostIdsByTitleOrAddress("맛집", user,
+        PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "date"))).getTotalElements())
+        .isEqualTo(POST_COUNT);
+  }
+
+  @Test
+  @DisplayName("즐겨찾기 페이징 쿼리는 DB에서 페이징된다")
+  void favoriteRepositoryPagedQueries() {
+    assertThat(favoriteRepository.findFavoritePostIdPage(user, PAGE).getContent()).hasSize(2);
+    assertThat(favoriteRepository.findFavoritePostIdPage(user, PAGE).getTotalElements())
+        .isEqualTo(POST_COUNT);
+    assertThat(favoriteRepository.findFavoritePosts(user, PAGE)).hasSize(2);
+    assertThat(favoriteRepository.findFavoritePostsAfter(user, LocalDateTime.now().plusDays(1),
+        Long.MAX_VALUE, PAGE)).hasSize(2);
+  }
+}
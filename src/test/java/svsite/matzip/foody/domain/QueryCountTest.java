@@ -0,0 +1,160 @@
+package svsite.matzip.foody.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.favorite.entity.Favorite;
+import svsite.matzip.foody.domain.favorite.service.FavoriteService;
+import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.cache.MarkerCache;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.search.InMemoryPostSearchEngine;
+import svsite.matzip.foody.domain.post.service.GeohashNearbyPostSearch;
+import svsite.matzip.foody.domain.post.service.PostActivityService;
+import svsite.matzip.foody.domain.post.service.PostService;
+import svsite.matzip.foody.global.auth.AuthPrincipal;
+import svsite.matzip.foody.global.config.AuditConfig;
+
+// 목록 API가 게시글 수와 관계없이 일정한 수의 SQL만 실행하는지 확인한다. 게시글마다 이미지를 지연 로딩하면(N+1) 실패한다.
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+    "spring.jpa.properties.hibernate.default_batch_fetch_size=1"  // 배치 로딩을 끄고 쿼리 자체를 검증한다.
+})
+@ActiveProfiles("test")
+@Import({
+    AuditConfig.class,
+    PostService.class,
+    FavoriteService.class,
+    MarkerCache.class,
+    GeohashNearbyPostSearch.class,
+    InMemoryPostSearchEngine.class,
+    PostActivityService.class
+})
+class QueryCountTest {
+
+  private static final int POST_COUNT = 8;
+  private static final int PAGE_SIZE = 5;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private FavoriteService favoriteService;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(User.builder()
+        .email("query-count@example.com")
+        .password("password")
+        .build());
+    for (int i = 1; i <= POST_COUNT; i++) {
+      Post post = entityManager.persist(Post.create(new CreatePostDto(
+          BigDecimal.valueOf(37.5665), BigDecimal.valueOf(126.9780), MarkerColor.RED,
+          "서울특별시 종로구", "맛집 " + i, "설명 " + i,
+          LocalDateTime.of(2025, 2, i, 12, 0), i,
+          List.of("https://example.com/" + i + "-1.jpg", "https://example.com/" + i + "-2.jpg")), user));
+      entityManager.persist(Favorite.builder().post(post).user(user).build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("내 게시글 페이지 조회: id 페이지, count, 이미지 포함 조회")
+  void getPosts() {
+    assertStatements(3, () -> postService.getPosts(PageRequest.of(0, PAGE_SIZE), AuthPrincipal.from(user)).getContent());
+  }
+
+  @Test
+  @DisplayName("내 게시글 커서 조회: id 목록, 이미지 포함 조회")
+  void scrollPosts() {
+    assertStatements(2, () -> postService.scrollPosts(null, PAGE_SIZE, false, user).content());
+  }
+
+  @Test
+  @DisplayName("제목/주소 검색: id 페이지, count, 이미지 포함 조회")
+  void searchMyPostsByTitleAndAddress() {
+    assertStatements(3, () -> postService.searchMyPostsByTitleAndAddress(
+        PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date")), "맛집", user).getContent());
+  }
+
+  @Test
+  @DisplayName("관련도순 검색: 색인 버전 조회, 색인용 게시글 조회, 이미지 포함 조회")
+  void searchMyPostsRanked() {
+    assertStatements(3, () -> postService.searchMyPostsRanked("맛집", PageRequest.of(0, PAGE_SIZE), user)
+        .getContent());
+  }
+
+  @Test
+  @DisplayName("월별 게시글 조회: 이미지 포함 범위 조회 한 번")
+  void getPostsByMonth() {
+    assertStatements(1, () -> postService.getPostsByMonth(2025, 2, user).values().stream()
+        .flatMap(Collection::stream)
+        .toList());
+  }
+
+  @Test
+  @DisplayName("일자별 게시글 조회: 이미지 포함 범위 조회 한 번")
+  void getPostsByDate() {
+    assertStatements(1, () -> postService.getPostsByDate(LocalDate.of(2025, 2, 3), user));
+  }
+
+  @Test
+  @DisplayName("즐겨찾기 페이지 조회: id 페이지, count, 이미지 포함 조회")
+  void getMyFavoritePosts() {
+    assertStatements(3, () -> favoriteService.getMyFavoritePosts(PageRequest.of(0, PAGE_SIZE), user)
+        .getContent());
+  }
+
+  @Test
+  @DisplayName("즐겨찾기 커서 조회: id 목록, 이미지 포함 조회")
+  void scrollMyFavoritePosts() {
+    assertStatements(2, () -> favoriteService.scrollMyFavoritePosts(null, PAGE_SIZE, false, user)
+        .content());
+  }
+
+  private void assertStatements(long expected, Supplier<List<PostResponseDto>> call) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    List<PostResponseDto> posts = call.get();
+
+    assertThat(posts).isNotEmpty()
+        .allSatisfy(post -> assertThat(post.images()).hasSize(2));
+    assertThat(statistics.getPrepareStatementCount())
+        .as("실행된 SQL 수")
+        .isEqualTo(expected);
+  }
+}
@@ -11,6 +11,7 @@ import svsite.matzip.foody.domain.favorite.api.FavoriteController;
 import svsite.matzip.foody.domain.favorite.service.FavoriteService;
 import svsite.matzip.foody.domain.image.api.ImageController;
 import svsite.matzip.foody.domain.post.api.PostController;
+import svsite.matzip.foody.domain.post.service.PostActivityService;
 import svsite.matzip.foody.domain.post.service.PostService;
 import svsite.matzip.foody.global.auth.AuthenticatedUserResolver;
 import svsite.matzip.foody.global.util.file.service.FileUploadService;
@@ -33,6 +34,8 @@ public abstract class ControllerTestSupport {
   @MockBean
   protected PostService postService;
   @MockBean
+  protected PostActivityService postActivityService;
+  @MockBean
   protected FileUploadService fileUploadService;
   @MockBean
   protected FavoriteService favoriteService;
@@ -2,24 +2,29 @@ package svsite.matzip.foody.domain.auth.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -31,6 +36,13 @@ import svsite.matzip.foody.domain.auth.api.dto.response.TokenResponseDto;
 import svsite.matzip.foody.domain.auth.entity.LoginType;
 import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.auth.repository.UserRepository;
+import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.image.repository.ImageRepository;
+import svsite.matzip.foody.domain.post.cache.MarkerCache;
+import svsite.matzip.foody.domain.post.repository.PostDailyActivityRepository;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.global.auth.AuthenticatedUserCache;
+import svsite.matzip.foody.global.auth.RefreshTokenHasher;
 import svsite.matzip.foody.global.exception.errorCode.ErrorCodes;
 import svsite.matzip.foody.global.exception.support.CustomException;
 import svsite.matzip.foody.global.util.jwt.JwtUtil;
@@ -48,9 +60,30 @@ class AuthServiceTest {
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Mock
+  private RefreshTokenHasher refreshTokenHasher;
+
   @Mock
   private JwtUtil jwtUtil;
 
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private ImageRepository imageRepository;
+
+  @Mock
+  private FavoriteRepository favoriteRepository;
+
+  @Mock
+  private PostDailyActivityRepository postDailyActivityRepository;
+
+  @Spy
+  private AuthenticatedUserCache authenticatedUserCache = new AuthenticatedUserCache(100, Duration.ofMinutes(1));
+
+  @Spy
+  private MarkerCache markerCache = new MarkerCache(1_000, Duration.ofMinutes(1));
+
   @DisplayName("정상 회원가입")
   @Test
   void signup_success() {
@@ -115,10 +148,29 @@ class AuthServiceTest {
     assertEquals("refreshToken", tokenResponse.refreshToken(), "Refresh token이 예상한 값이어야 합니다.");
     verify(userRepository).findByEmail("test@example.com");
     verify(passwordEncoder).matches("password123", "encodedPassword");
+    verify(passwordEncoder, never()).encode(anyString());
     verify(jwtUtil).generateAccessToken(anyMap());
     verify(jwtUtil).generateRefreshToken(anyMap());
   }
 
+  @DisplayName("로그인 성공 - 이전 비용으로 저장된 비밀번호는 다시 해시한다")
+  @Test
+  void signin_rehashesStalePassword() {
+    // given
+    AuthRequestDto authRequestDto = new AuthRequestDto("test@example.com", "password123");
+    User user = User.builder().password("legacyEncodedPassword").build();
+    when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+    when(passwordEncoder.matches("password123", "legacyEncodedPassword")).thenReturn(true);
+    when(passwordEncoder.upgradeEncoding("legacyEncodedPassword")).thenReturn(true);
+    when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}newEncodedPassword");
+
+    // when
+    authService.signin(authRequestDto);
+
+    // then
+    assertEquals("{bcrypt}newEncodedPassword", user.getPassword(), "비밀번호가 현재 비용으로 다시 해시되어야 합니다.");
+  }
+
   @DisplayName("로그인 실패 - 잘못된 비밀번호")
   @Test
   void signin_wrongPassword_throwsException() {
@@ -160,11 +212,13 @@ class AuthServiceTest {
   void refreshToken_success() {
     // given
     User mockUser = User.builder()
+        .id(1L)
         .email("test@example.com")
         .hashedRefreshToken("existingHashedToken")
         .build();
 
     Map<String, Object> payload = new HashMap<>();
+    payload.put("userId", 1L);
     payload.put("email", "test@example.com");
 
     String newAccessToken = "newAccessToken";
@@ -173,7 +227,7 @@ class AuthServiceTest {
     // Mock 설정
     when(jwtUtil.generateAccessToken(payload)).thenReturn(newAccessToken);
     when(jwtUtil.generateRefreshToken(payload)).thenReturn(newRefreshToken);
-    when(passwordEncoder.encode(newRefreshToken)).thenReturn("newEncodedRefreshToken");
+    when(refreshTokenHasher.hash(newRefreshToken)).thenReturn("hmac$newHashedRefreshToken");
 
     // when
     TokenResponseDto result = authService.refreshToken(mockUser);
@@ -186,7 +240,8 @@ class AuthServiceTest {
     // verify
     verify(jwtUtil).generateAccessToken(payload);
     verify(jwtUtil).generateRefreshToken(payload);
-    verify(passwordEncoder).encode(newRefreshToken);
+    verify(refreshTokenHasher).hash(newRefreshToken);
+    assertEquals("hmac$newHashedRefreshToken", mockUser.getHashedRefreshToken());
   }
 
   @Test
@@ -269,7 +324,28 @@ class AuthServiceTest {
 
     // then
     assertEquals(1L, deletedUserId, "삭제된 사용자 ID가 예상 값과 일치해야 합니다.");
-    verify(userRepository, times(1)).delete(mockUser);
+    InOrder inOrder = inOrder(favoriteRepository, imageRepository, postRepository,
+        postDailyActivityRepository, userRepository);
+    inOrder.verify(favoriteRepository).deleteAllByUserOrPostOwner(mockUser);
+    inOrder.verify(imageRepository).deleteAllByPostOwner(mockUser);
+    inOrder.verify(postRepository).deleteAllByUser(mockUser);  // 툼스톤 포함
+    inOrder.verify(postDailyActivityRepository).deleteAllByUser(mockUser);
+    inOrder.verify(userRepository, times(1)).delete(mockUser);
+  }
+
+  @Test
+  @DisplayName("계정 삭제 시 인증 사용자 캐시와 마커 캐시에서 제거한다.")
+  void deleteAccount_evictsCaches() {
+    // given
+    User mockUser = User.builder().id(1L).email("test@example.com").build();
+    authenticatedUserCache.put("test@example.com", 1L);
+
+    // when
+    authService.deleteAccount(mockUser);
+
+    // then
+    assertNull(authenticatedUserCache.findUserId("test@example.com"), "캐시에서 제거되어야 합니다.");
+    verify(markerCache).evictAfterCommit(1L);
   }
 
   @Test
@@ -10,7 +10,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +23,7 @@ import svsite.matzip.foody.domain.auth.ControllerTestSupport;
 import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.favorite.api.response.ToggleFavoriteResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
 
 class FavoriteControllerTest extends ControllerTestSupport {
@@ -56,10 +56,10 @@ class FavoriteControllerTest extends ControllerTestSupport {
   void getMyFavoritePosts_success() throws Exception {
     // given
     List<PostResponseDto> favoritePosts = List.of(
-        new PostResponseDto(1L, BigDecimal.valueOf(37.5665), BigDecimal.valueOf(126.9780),
+        new PostResponseDto(1L, Coordinate.ofDegrees(37.5665), Coordinate.ofDegrees(126.9780),
             MarkerColor.RED, "서울특별시 종로구", "맛집 소개 1", "맛집 설명", LocalDateTime.now(),
             9, LocalDateTime.now(), LocalDateTime.now(), List.of(), true),
-        new PostResponseDto(2L, BigDecimal.valueOf(35.1796), BigDecimal.valueOf(129.0756),
+        new PostResponseDto(2L, Coordinate.ofDegrees(35.1796), Coordinate.ofDegrees(129.0756),
             MarkerColor.BLUE, "부산광역시 중구", "맛집 소개 2", "맛집 설명", LocalDateTime.now(),
             8, LocalDateTime.now(), LocalDateTime.now(), List.of(), true)
     );
@@ -7,7 +7,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.POST_NOT_FOUND;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,11 +23,15 @@ import svsite.matzip.foody.domain.auth.entity.User;
 import svsite.matzip.foody.domain.favorite.api.response.ToggleFavoriteResponseDto;
 import svsite.matzip.foody.domain.favorite.entity.Favorite;
 import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.favorite.repository.dto.FavoritePostQueryDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
 import svsite.matzip.foody.domain.post.entity.Post;
 import svsite.matzip.foody.domain.post.repository.PostRepository;
 import svsite.matzip.foody.global.exception.support.CustomException;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
+import svsite.matzip.foody.global.util.pagination.DateIdCursor;
 
 @ExtendWith(MockitoExtension.class)
 class FavoriteServiceTest {
@@ -50,7 +53,7 @@ class FavoriteServiceTest {
     User mockUser = User.builder().email("test@example.com").build();
     Post mockPost = createMockPost(postId);
 
-    when(postRepository.findById(postId)).thenReturn(Optional.of(mockPost));
+    when(postRepository.findActiveById(postId)).thenReturn(Optional.of(mockPost));
     when(favoriteRepository.findByPostAndUser(mockPost, mockUser)).thenReturn(Optional.empty());
 
     // when
@@ -73,7 +76,7 @@ class FavoriteServiceTest {
     Post mockPost = createMockPost(postId);
     Favorite existingFavorite = Favorite.builder().post(mockPost).user(mockUser).build();
 
-    when(postRepository.findById(postId)).thenReturn(Optional.of(mockPost));
+    when(postRepository.findActiveById(postId)).thenReturn(Optional.of(mockPost));
     when(favoriteRepository.findByPostAndUser(mockPost, mockUser)).thenReturn(Optional.of(existingFavorite));
 
     // when
@@ -94,7 +97,7 @@ class FavoriteServiceTest {
     long postId = 1L;
     User mockUser = User.builder().email("test@example.com").build();
 
-    when(postRepository.findById(postId)).thenReturn(Optional.empty());
+    when(postRepository.findActiveById(postId)).thenReturn(Optional.empty());
 
     // when & then
     CustomException exception = assertThrows(CustomException.class, () -> {
@@ -112,14 +115,10 @@ class FavoriteServiceTest {
     User mockUser = User.builder().email("test@example.com").build();
     PageRequest pageable = PageRequest.of(0, 10);
 
-    List<Favorite> favorites = List.of(
-        Favorite.builder().post(createMockPost(1L)).user(mockUser).build(),
-        Favorite.builder().post(createMockPost(2L)).user(mockUser).build()
-    );
-
-    Page<Favorite> favoritePage = new PageImpl<>(favorites, pageable, favorites.size());
-
-    when(favoriteRepository.findFavoritesByUser(mockUser, pageable)).thenReturn(favoritePage);
+    when(favoriteRepository.findFavoritePostIdPage(mockUser, pageable))
+        .thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, 2));
+    when(postRepository.findAllWithImagesByIdIn(List.of(1L, 2L)))
+        .thenReturn(List.of(createMockPost(2L), createMockPost(1L)));
 
     // when
     Page<PostResponseDto> responsePage = favoriteService.getMyFavoritePosts(pageable, mockUser);
@@ -129,14 +128,43 @@ class FavoriteServiceTest {
     assertEquals(2, responsePage.getContent().size(), "게시글 개수가 예상과 일치해야 합니다.");
     assertEquals(1L, responsePage.getContent().get(0).id(), "첫 번째 게시글 ID가 예상 값과 일치해야 합니다.");
 
-    verify(favoriteRepository).findFavoritesByUser(mockUser, pageable);
+    assertTrue(responsePage.getContent().get(0).isFavorite(), "즐겨찾기 여부가 true여야 합니다.");
+
+    verify(favoriteRepository).findFavoritePostIdPage(mockUser, pageable);
+  }
+
+  @Test
+  @DisplayName("즐겨찾기 게시글을 커서 기반으로 조회한다")
+  void scrollMyFavoritePosts() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+
+    LocalDateTime now = LocalDateTime.now();
+    when(favoriteRepository.findFavoritePosts(mockUser, PageRequest.of(0, 2)))
+        .thenReturn(List.of(new FavoritePostQueryDto(20L, now, 2L),
+            new FavoritePostQueryDto(10L, now.minusDays(1), 1L)));
+    when(postRepository.findAllWithImagesByIdIn(List.of(2L)))
+        .thenReturn(List.of(createMockPost(2L)));
+
+    // when
+    CursorPageResponseDto<PostResponseDto> result =
+        favoriteService.scrollMyFavoritePosts(null, 1, false, mockUser);
+
+    // then
+    assertEquals(1, result.content().size(), "게시글 개수가 예상과 일치해야 합니다.");
+    assertEquals(2L, result.content().getFirst().id(), "조회 순서가 유지되어야 합니다.");
+    assertTrue(result.content().getFirst().isFavorite(), "즐겨찾기 여부가 true여야 합니다.");
+    assertTrue(result.hasNext(), "다음 페이지가 있어야 합니다.");
+    assertEquals(new DateIdCursor(now, 20L), DateIdCursor.decode(result.nextCursor()),
+        "커서는 즐겨찾기한 시각과 즐겨찾기 id여야 합니다.");
+    verify(favoriteRepository, never()).countActiveByUser(any());
   }
 
   private Post createMockPost(Long id) {
     return Post.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("맛집 소개")
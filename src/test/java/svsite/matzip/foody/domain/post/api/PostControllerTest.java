@@ -1,19 +1,23 @@
 package svsite.matzip.foody.domain.post.api;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.POST_NOT_FOUND;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -24,16 +28,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import svsite.matzip.foody.domain.auth.ControllerTestSupport;
 import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.converter.MarkersBinaryHttpMessageConverter;
 import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.request.MarkerBoundsDto;
+import svsite.matzip.foody.domain.post.api.dto.request.NearbySearchDto;
 import svsite.matzip.foody.domain.post.api.dto.request.UpdatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.response.CalendarDayResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.DailyActivityResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.ImageResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerChangesResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.global.auth.AuthPrincipal;
 import svsite.matzip.foody.global.exception.support.CustomException;
 
 class PostControllerTest extends ControllerTestSupport {
@@ -42,11 +57,11 @@ class PostControllerTest extends ControllerTestSupport {
   @Test
   void getAllMarkers() throws Exception {
     // given
-    User mockUser = setupAuthenticatedUser();
+    setupAuthenticatedPrincipal();
 
     List<MarkersResponseDto> markersResponseDtos = getMockedMarkers();
 
-    when(postService.getAllMarkers(any(User.class))).thenReturn(markersResponseDtos);
+    when(postService.getAllMarkers(any(AuthPrincipal.class))).thenReturn(markersResponseDtos);
 
     // when & then
     mockMvc.perform(get("/markers/my")
@@ -63,6 +78,160 @@ class PostControllerTest extends ControllerTestSupport {
         .andExpect(jsonPath("$[2].color").value("GREEN"));
   }
 
+  @DisplayName("Accept 헤더로 바이너리 형식을 요청하면 압축된 마커 목록을 반환한다")
+  @Test
+  void getAllMarkers_binary() throws Exception {
+    // given
+    setupAuthenticatedPrincipal();
+
+    when(postService.getAllMarkers(any(AuthPrincipal.class))).thenReturn(getMockedMarkers());
+
+    // when & then
+    byte[] body = mockMvc.perform(get("/markers/my")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validRefreshToken")
+            .accept(MarkersBinaryHttpMessageConverter.MEDIA_TYPE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MarkersBinaryHttpMessageConverter.MEDIA_TYPE))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // 버전(1) + 개수(1) + 마커당 id(1) + 위경도(8) + 색상(1) + 점수(1)
+    assertEquals(2 + 3 * 12, body.length, "바이너리 응답 크기가 예상과 일치해야 합니다.");
+  }
+
+  @DisplayName("지도 화면 영역 안의 맛집 마커만 반환한다")
+  @Test
+  void getMarkersInBounds() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+
+    when(postService.getMarkersInBounds(any(MarkerBoundsDto.class), any(User.class)))
+        .thenReturn(List.of(createMarker(1L, 37.5665, 126.9780, MarkerColor.RED, 10)));
+
+    // when & then
+    mockMvc.perform(get("/markers/my/bounds")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("minLatitude", "37.5")
+            .param("maxLatitude", "37.6")
+            .param("minLongitude", "126.9")
+            .param("maxLongitude", "127.0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].id").value(1))
+        .andExpect(jsonPath("$[0].color").value("RED"));
+
+    verify(postService).getMarkersInBounds(any(MarkerBoundsDto.class), eq(mockUser));
+  }
+
+  @DisplayName("최소 좌표가 최대 좌표보다 크면 400 에러를 반환한다")
+  @Test
+  void getMarkersInBounds_invalidBounds() throws Exception {
+    mockMvc.perform(get("/markers/my/bounds")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("minLatitude", "37.6")
+            .param("maxLatitude", "37.5")
+            .param("minLongitude", "126.9")
+            .param("maxLongitude", "127.0"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @DisplayName("줌 레벨과 화면 영역에 맞는 마커 클러스터를 반환한다")
+  @Test
+  void getMarkerClusters() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+
+    MarkerClusterResponseDto cluster = MarkerClusterResponseDto.builder()
+        .geohash("wyd")
+        .count(3)
+        .latitude(Coordinate.ofDegrees(37.567200))
+        .longitude(Coordinate.ofDegrees(126.983200))
+        .color(MarkerColor.RED)
+        .averageScore(8.0)
+        .build();
+
+    when(postService.getMarkerClusters(any(MarkerBoundsDto.class), eq(8), any(User.class)))
+        .thenReturn(List.of(cluster));
+
+    // when & then
+    mockMvc.perform(get("/markers/my/clusters")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("zoom", "8")
+            .param("minLatitude", "33.0")
+            .param("maxLatitude", "38.0")
+            .param("minLongitude", "126.0")
+            .param("maxLongitude", "130.0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].geohash").value("wyd"))
+        .andExpect(jsonPath("$[0].count").value(3))
+        .andExpect(jsonPath("$[0].color").value("RED"))
+        .andExpect(jsonPath("$[0].averageScore").value(8.0));
+
+    verify(postService).getMarkerClusters(any(MarkerBoundsDto.class), eq(8), eq(mockUser));
+  }
+
+  @Test
+  @DisplayName("기준 위치에서 반경 안의 마커를 가까운 순으로 조회한다")
+  void getNearbyMarkers() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+
+    NearbyMarkerResponseDto nearby = NearbyMarkerResponseDto.builder()
+        .id(1L)
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
+        .color(MarkerColor.RED)
+        .score(10)
+        .distance(120.5)
+        .build();
+
+    when(postService.getNearbyMarkers(any(NearbySearchDto.class), any(Pageable.class), any(User.class)))
+        .thenReturn(new PageImpl<>(List.of(nearby), PageRequest.of(0, 20), 1));
+
+    // when & then
+    mockMvc.perform(get("/markers/my/nearby")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("latitude", "37.5660")
+            .param("longitude", "126.9775"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(1))
+        .andExpect(jsonPath("$.content[0].distance").value(120.5))
+        .andExpect(jsonPath("$.totalElements").value(1));
+
+    verify(postService).getNearbyMarkers(
+        eq(new NearbySearchDto(new BigDecimal("37.5660"), new BigDecimal("126.9775"), 1_000)),
+        eq(PageRequest.of(0, 20)), eq(mockUser));
+  }
+
+  @Test
+  @DisplayName("since 이후 변경된 마커를 조회한다")
+  void getMarkerChanges() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+    LocalDateTime since = LocalDateTime.of(2025, 2, 8, 12, 0, 0);
+
+    MarkerChangesResponseDto changes = MarkerChangesResponseDto.builder()
+        .upserts(List.of(new MarkersResponseDto(1L, Coordinate.ofDegrees(37.5665),
+            Coordinate.ofDegrees(126.9780), MarkerColor.RED, 10)))
+        .deletedIds(List.of(2L))
+        .watermark(LocalDateTime.of(2025, 2, 9, 9, 30, 0))
+        .build();
+
+    when(postService.getMarkerChanges(eq(since), any(User.class))).thenReturn(changes);
+
+    // when & then
+    mockMvc.perform(get("/markers/my/changes")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("since", "2025-02-08T12:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.upserts.length()").value(1))
+        .andExpect(jsonPath("$.upserts[0].id").value(1))
+        .andExpect(jsonPath("$.deletedIds[0]").value(2))
+        .andExpect(jsonPath("$.watermark").value("2025-02-09T09:30:00"));
+
+    verify(postService).getMarkerChanges(since, mockUser);
+  }
+
   @Test
   @DisplayName("맛집 글을 성공적으로 등록한다")
   void createPost() throws Exception {
@@ -83,8 +252,8 @@ class PostControllerTest extends ControllerTestSupport {
 
     PostResponseDto responseDto = PostResponseDto.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("맛집 소개")
@@ -137,8 +306,8 @@ class PostControllerTest extends ControllerTestSupport {
 
     PostResponseDto responseDto = PostResponseDto.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.BLUE)
         .address("서울특별시 종로구")
         .title("맛집 수정 소개")
@@ -182,7 +351,7 @@ class PostControllerTest extends ControllerTestSupport {
   @DisplayName("사용자가 등록한 모든 맛집 게시글 목록을 페이지 단위로 조회한다")
   void getPosts() throws Exception {
     // given
-    User mockUser = setupAuthenticatedUser();
+    AuthPrincipal principal = setupAuthenticatedPrincipal();
 
     List<PostResponseDto> postList = List.of(
         createPostResponseDto(1L, 37.5665, 126.9780, MarkerColor.RED, "서울특별시 종로구", "맛집 소개 1"),
@@ -191,7 +360,7 @@ class PostControllerTest extends ControllerTestSupport {
 
     Page<PostResponseDto> responsePage = new PageImpl<>(postList);
 
-    when(postService.getPosts(any(PageRequest.class), any(User.class))).thenReturn(responsePage);
+    when(postService.getPosts(any(PageRequest.class), any(AuthPrincipal.class))).thenReturn(responsePage);
 
     // when & then
     mockMvc.perform(get("/posts/my")
@@ -210,7 +379,7 @@ class PostControllerTest extends ControllerTestSupport {
         .andExpect(jsonPath("$.content[1].title").value("맛집 소개 2"))
         .andDo(print());
 
-    verify(postService).getPosts(any(PageRequest.class), eq(mockUser));
+    verify(postService).getPosts(any(PageRequest.class), eq(principal));
   }
 
   @Test
@@ -221,8 +390,8 @@ class PostControllerTest extends ControllerTestSupport {
 
     PostResponseDto postResponseDto = PostResponseDto.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("맛집 소개")
@@ -333,6 +502,58 @@ class PostControllerTest extends ControllerTestSupport {
     verify(postService).getPostsByMonth(year, month, mockUser);
   }
 
+  @Test
+  @DisplayName("연간 활동 히트맵을 조회한다")
+  void getYearActivity_success() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+    when(postActivityService.getYearActivity(2025, mockUser)).thenReturn(List.of(
+        DailyActivityResponseDto.builder()
+            .date(LocalDate.of(2025, 3, 1))
+            .count(3)
+            .averageScore(8.5)
+            .colors(Map.of(MarkerColor.RED, 3))
+            .build()
+    ));
+
+    // when & then
+    mockMvc.perform(get("/posts/activity/year")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("year", "2025"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].date").value("2025-03-01"))
+        .andExpect(jsonPath("$[0].count").value(3))
+        .andExpect(jsonPath("$[0].colors.RED").value(3))
+        .andDo(print());
+
+    verify(postActivityService).getYearActivity(2025, mockUser);
+  }
+
+  @Test
+  @DisplayName("해당 연월의 캘린더 요약을 일자별로 조회한다")
+  void getCalendar_success() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+    when(postService.getCalendar(2025, 2, mockUser)).thenReturn(List.of(
+        CalendarDayResponseDto.builder()
+            .day(8).count(2).colors(List.of(MarkerColor.RED, MarkerColor.BLUE)).topScore(9).build()
+    ));
+
+    // when & then
+    mockMvc.perform(get("/posts/calendar")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("year", "2025")
+            .param("month", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].day").value(8))
+        .andExpect(jsonPath("$[0].count").value(2))
+        .andExpect(jsonPath("$[0].colors[0]").value("RED"))
+        .andExpect(jsonPath("$[0].topScore").value(9))
+        .andDo(print());
+
+    verify(postService).getCalendar(2025, 2, mockUser);
+  }
+
   @Test
   @DisplayName("게시글 제목 또는 주소로 성공적으로 검색한다")
   void searchMyPostsByTitleAndAddress_success() throws Exception {
@@ -369,6 +590,30 @@ class PostControllerTest extends ControllerTestSupport {
         eq(mockUser));
   }
 
+  @Test
+  @DisplayName("mode=RANKED이면 관련도순 검색을 사용한다")
+  void searchMyPosts_rankedMode() throws Exception {
+    // given
+    User mockUser = setupAuthenticatedUser();
+    Page<PostResponseDto> responsePage = new PageImpl<>(List.of(
+        createPostResponseDto(2L, 37.5665, 126.9780, MarkerColor.RED, "서울특별시 종로구", "돼지국밥")
+    ));
+    when(postService.searchMyPostsRanked(eq("국밥"), eq(PageRequest.of(0, 10)), any(User.class)))
+        .thenReturn(responsePage);
+
+    // when & then
+    mockMvc.perform(get("/posts/my/search")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer validToken")
+            .param("query", "국밥")
+            .param("mode", "RANKED"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(2))
+        .andDo(print());
+
+    verify(postService).searchMyPostsRanked(eq("국밥"), eq(PageRequest.of(0, 10)), eq(mockUser));
+    verify(postService, never()).searchMyPostsByTitleAndAddress(any(), any(), any());
+  }
+
   @Test
   @DisplayName("검색 문자열이 없을 경우 400 에러를 반환한다")
   void searchMyPostsByTitleAndAddress_missingQuery() throws Exception {
@@ -386,8 +631,8 @@ class PostControllerTest extends ControllerTestSupport {
       MarkerColor color, int score) {
     return MarkersResponseDto.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(latitude))
-        .longitude(BigDecimal.valueOf(longitude))
+        .latitude(Coordinate.ofDegrees(latitude))
+        .longitude(Coordinate.ofDegrees(longitude))
         .color(color)
         .score(score)
         .build();
@@ -414,12 +659,22 @@ class PostControllerTest extends ControllerTestSupport {
     return mockUser;
   }
 
+  private AuthPrincipal setupAuthenticatedPrincipal() throws Exception {
+    AuthPrincipal principal = new AuthPrincipal(1L, "test@example.com");
+
+    when(authenticatedUserResolver.supportsParameter(any())).thenReturn(true);
+    when(authenticatedUserResolver.resolveArgument(any(), any(), any(), any())).thenReturn(
+        principal);
+
+    return principal;
+  }
+
   private PostResponseDto createPostResponseDto(Long id, double lat, double lon, MarkerColor color,
       String address, String title) {
     return PostResponseDto.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(lat))
-        .longitude(BigDecimal.valueOf(lon))
+        .latitude(Coordinate.ofDegrees(lat))
+        .longitude(Coordinate.ofDegrees(lon))
         .color(color)
         .address(address)
         .title(title)
@@ -434,8 +689,8 @@ class PostControllerTest extends ControllerTestSupport {
   private PostResponseDto createPostResponseDto(Long id, String title, LocalDateTime date) {
     return PostResponseDto.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title(title)
@@ -0,0 +1,83 @@
+package svsite.matzip.foody.domain.post.api.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+
+class MarkersBinaryHttpMessageConverterTest {
+
+  private final MarkersBinaryHttpMessageConverter converter = new MarkersBinaryHttpMessageConverter();
+
+  @Test
+  @DisplayName("마커 목록 타입만 바이너리로 변환할 수 있다")
+  void canWriteOnlyMarkerLists() {
+    assertTrue(converter.canWrite(new ParameterizedTypeReference<List<MarkersResponseDto>>() {}.getType(),
+        List.class, MarkersBinaryHttpMessageConverter.MEDIA_TYPE));
+    assertFalse(converter.canWrite(new ParameterizedTypeReference<List<MarkerClusterResponseDto>>() {}.getType(),
+        List.class, MarkersBinaryHttpMessageConverter.MEDIA_TYPE));
+    assertFalse(converter.canWrite(new ParameterizedTypeReference<List<MarkersResponseDto>>() {}.getType(),
+        List.class, MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @DisplayName("마커를 고정소수점 좌표, 색상 ordinal, varint id와 점수로 직렬화한다")
+  void writeMarkers() throws IOException {
+    // given
+    List<MarkersResponseDto> markers = List.of(
+        new MarkersResponseDto(300L, Coordinate.ofDegrees(37.5665), Coordinate.ofDegrees(126.978),
+            MarkerColor.BLUE, 10),
+        new MarkersResponseDto(1L, Coordinate.ofDegrees(-33.8688), Coordinate.ofDegrees(151.2093),
+            null, null));
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+    // when
+    converter.write(markers, new ParameterizedTypeReference<List<MarkersResponseDto>>() {}.getType(),
+        MarkersBinaryHttpMessageConverter.MEDIA_TYPE, outputMessage);
+
+    // then
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(outputMessage.getBodyAsBytes()));
+    assertEquals(MarkersBinaryHttpMessageConverter.VERSION, in.readUnsignedByte());
+    assertEquals(2, readVarint(in));
+
+    assertEquals(300, readVarint(in));
+    assertEquals(37_566_500, in.readInt());
+    assertEquals(126_978_000, in.readInt());
+    assertEquals(MarkerColor.BLUE.ordinal(), in.readUnsignedByte());
+    assertEquals(11, readVarint(in));
+
+    assertEquals(1, readVarint(in));
+    assertEquals(-33_868_800, in.readInt());
+    assertEquals(151_209_300, in.readInt());
+    assertEquals(MarkersBinaryHttpMessageConverter.NO_COLOR, in.readUnsignedByte());
+    assertEquals(0, readVarint(in));
+
+    assertEquals(-1, in.read(), "남은 바이트가 없어야 합니다.");
+    assertEquals(MarkersBinaryHttpMessageConverter.MEDIA_TYPE, outputMessage.getHeaders().getContentType());
+  }
+
+  private long readVarint(DataInputStream in) throws IOException {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
@@ -0,0 +1,122 @@
+package svsite.matzip.foody.domain.post.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+
+class MarkerCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  @Test
+  @DisplayName("전체 마커 수가 한도를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다")
+  void evictsLeastRecentlyUsedUser() {
+    // given
+    MarkerCache markerCache = new MarkerCache(5, TTL);
+    markerCache.getOrLoad(1L, () -> markers(2));
+    markerCache.getOrLoad(2L, () -> markers(2));
+    markerCache.getOrLoad(1L, () -> markers(2));  // 1번 사용자를 최근 사용으로 갱신
+
+    // when
+    markerCache.getOrLoad(3L, () -> markers(2));
+
+    // then
+    MarkerCache.Stats stats = markerCache.stats();
+    assertEquals(1, stats.evictions(), "한 명의 사용자가 제거되어야 합니다.");
+    assertEquals(2, stats.users(), "두 명의 사용자만 남아야 합니다.");
+    assertEquals(4, stats.markers(), "남은 마커 수가 예상과 일치해야 합니다.");
+    assertEquals(1, stats.hits(), "캐시 적중 횟수가 예상과 일치해야 합니다.");
+    assertEquals(3, stats.misses(), "캐시 미스 횟수가 예상과 일치해야 합니다.");
+  }
+
+  @Test
+  @DisplayName("저장 후 ttl이 지난 마커는 다시 조회한다")
+  void reloadsAfterTtl() {
+    // given
+    AtomicLong now = new AtomicLong();
+    MarkerCache markerCache = new MarkerCache(10, TTL, now::get);
+    markerCache.getOrLoad(1L, () -> markers(2));
+
+    // when
+    now.addAndGet(TTL.toNanos());
+    MarkerSnapshot reloaded = markerCache.getOrLoad(1L, () -> markers(3));
+
+    // then
+    assertEquals(3, reloaded.size(), "ttl이 지나면 새로 조회한 마커를 반환해야 합니다.");
+    MarkerCache.Stats stats = markerCache.stats();
+    assertEquals(0, stats.hits(), "만료된 항목은 적중으로 세지 않아야 합니다.");
+    assertEquals(2, stats.misses(), "캐시 미스 횟수가 예상과 일치해야 합니다.");
+    assertEquals(3, stats.markers(), "만료된 마커는 전체 마커 수에서 빠져야 합니다.");
+  }
+
+  @Test
+  @DisplayName("적중, 미스, 제거 횟수와 캐시 크기를 MeterRegistry에 노출한다")
+  void bindsMetrics() {
+    // given
+    MarkerCache markerCache = new MarkerCache(3, TTL);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    markerCache.bindTo(registry);
+
+    // when
+    markerCache.getOrLoad(1L, () -> markers(2));
+    markerCache.getOrLoad(1L, () -> markers(2));
+    markerCache.getOrLoad(2L, () -> markers(2));  // 1번 사용자가 제거된다
+
+    // then
+    assertEquals(1, registry.get("marker.cache.requests").tag("result", "hit").functionCounter().count());
+    assertEquals(2, registry.get("marker.cache.requests").tag("result", "miss").functionCounter().count());
+    assertEquals(1, registry.get("marker.cache.evictions").functionCounter().count());
+    assertEquals(1, registry.get("marker.cache.users").gauge().value());
+    assertEquals(2, registry.get("marker.cache.markers").gauge().value());
+  }
+
+  @Test
+  @DisplayName("캐시된 마커는 원래의 좌표, 색상, 점수로 복원된다")
+  void restoresMarkers() {
+    // given
+    MarkerCache markerCache = new MarkerCache(10, TTL);
+    List<PostMarkersQueryDto> markers = List.of(
+        PostMarkersQueryDto.builder()
+            .id(7L)
+            .latitude(Coordinate.ofDegrees(37.566500))
+            .longitude(Coordinate.ofDegrees(126.978000))
+            .color(MarkerColor.PURPLE)
+            .score(null)
+            .build());
+
+    // when
+    MarkersResponseDto restored = markerCache.getOrLoad(1L, () -> markers).toResponses().getFirst();
+
+    // then
+    assertEquals(7L, restored.id());
+    assertEquals(Coordinate.ofDegrees(37.5665), restored.latitude());
+    assertEquals(Coordinate.ofDegrees(126.978), restored.longitude());
+    assertEquals(MarkerColor.PURPLE, restored.color());
+    assertNull(restored.score());
+  }
+
+  private List<PostMarkersQueryDto> markers(int count) {
+    List<PostMarkersQueryDto> markers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      markers.add(PostMarkersQueryDto.builder()
+          .id((long) i)
+          .latitude(Coordinate.ofDegrees(37.5))
+          .longitude(Coordinate.ofDegrees(127.0))
+          .color(MarkerColor.RED)
+          .score(5)
+          .build());
+    }
+    return markers;
+  }
+}
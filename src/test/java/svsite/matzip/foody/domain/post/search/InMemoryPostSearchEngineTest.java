@@ -0,0 +1,137 @@
+package svsite.matzip.foody.domain.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchDocumentQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostSearchVersionQueryDto;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryPostSearchEngineTest {
+
+  @InjectMocks
+  private InMemoryPostSearchEngine searchEngine;
+
+  @Mock
+  private PostRepository postRepository;
+
+  private final User user = User.builder().id(1L).email("test@example.com").build();
+
+  @Test
+  @DisplayName("제목 일치가 주소, 설명 일치보다 먼저 오고 같은 점수는 최신순으로 정렬된다")
+  void search_ranksByFieldWeight() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    givenDocuments(now, List.of(
+        document(1L, "파스타 집", "서울 국밥로 1", "분위기 좋음", now),
+        document(2L, "양평 해장국", "경기도", "국밥 맛집", now),
+        document(3L, "돼지 국밥", "부산", "", now.minusDays(1)),
+        document(4L, "순대국밥", "서울", "", now),
+        document(5L, "카페", "서울", "커피", now)
+    ));
+
+    // when
+    Page<Long> result = searchEngine.search(user, "국밥", PageRequest.of(0, 10));
+
+    // then
+    assertThat(result.getContent()).containsExactly(4L, 3L, 1L, 2L);
+    assertThat(result.getTotalElements()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Postgres ILIKE와 같이 공백을 포함한 검색어가 연속해서 그대로 있어야 일치로 본다")
+  void search_requiresContiguousMatch() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    givenDocuments(now, List.of(
+        document(1L, "순대국밥", "서울", null, now),
+        document(2L, "국 밥 한 그릇", "서울", null, now),
+        document(3L, "밥집", "국도변", null, now)
+    ));
+
+    // when
+    Page<Long> result = searchEngine.search(user, " 국 밥 ", PageRequest.of(0, 10));
+
+    // then
+    assertThat(result.getContent()).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("검색어가 그대로 포함되지 않은 게시글은 제외하고 페이지 단위로 자르며, 게시글이 바뀌지 않았으면 색인을 다시 읽지 않는다")
+  void search_pagesAndReusesIndex() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    givenDocuments(now, List.of(
+        document(1L, "Pasta House", "Seoul", null, now),
+        document(2L, "pasta bar", "Seoul", null, now.minusDays(1)),
+        document(3L, "past time", "Seoul", null, now)
+    ));
+
+    // when
+    Page<Long> first = searchEngine.search(user, "PASTA", PageRequest.of(0, 1));
+    Page<Long> second = searchEngine.search(user, "PASTA", PageRequest.of(1, 1));
+
+    // then
+    assertThat(first.getContent()).containsExactly(1L);
+    assertThat(second.getContent()).containsExactly(2L);
+    assertThat(second.getTotalElements()).isEqualTo(2);
+    verify(postRepository, times(2)).findSearchVersion(user);
+    verify(postRepository, times(1)).findSearchDocuments(user);
+  }
+
+  @Test
+  @DisplayName("공백뿐인 검색어는 조회 없이 빈 페이지를 반환한다")
+  void search_blankQuery() {
+    Page<Long> result = searchEngine.search(user, "   ", PageRequest.of(0, 10));
+
+    assertThat(result).isEmpty();
+    verifyNoInteractions(postRepository);
+  }
+
+  @Test
+  @DisplayName("게시글이 바뀌면 색인을 다시 만든다")
+  void search_rebuildsIndexWhenVersionChanges() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    givenDocuments(now, List.of(document(1L, "순대국밥", "서울", null, now)));
+    assertThat(searchEngine.search(user, "국밥", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+
+    givenDocuments(now.plusSeconds(1), List.of(
+        document(1L, "순대국밥", "서울", null, now),
+        document(2L, "돼지국밥", "부산", null, now.plusDays(1))
+    ));
+
+    // when
+    Page<Long> result = searchEngine.search(user, "국밥", PageRequest.of(0, 10));
+
+    // then
+    assertThat(result.getContent()).containsExactly(2L, 1L);
+    verify(postRepository, times(2)).findSearchDocuments(user);
+  }
+
+  private void givenDocuments(LocalDateTime lastUpdatedAt, List<PostSearchDocumentQueryDto> documents) {
+    when(postRepository.findSearchVersion(user))
+        .thenReturn(new PostSearchVersionQueryDto((long) documents.size(), lastUpdatedAt));
+    when(postRepository.findSearchDocuments(user)).thenReturn(documents);
+  }
+
+  private PostSearchDocumentQueryDto document(Long id, String title, String address, String description,
+      LocalDateTime date) {
+    return new PostSearchDocumentQueryDto(id, title, address, description, date);
+  }
+}
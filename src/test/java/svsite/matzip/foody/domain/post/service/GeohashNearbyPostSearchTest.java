@@ -0,0 +1,69 @@
+package svsite.matzip.foody.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+
+@ExtendWith(MockitoExtension.class)
+class GeohashNearbyPostSearchTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @InjectMocks
+  private GeohashNearbyPostSearch nearbyPostSearch;
+
+  @Test
+  @DisplayName("바운딩 박스 후보 중 반경 안의 마커만 가까운 순으로 페이지 단위로 반환한다")
+  void search() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    when(postRepository.findMarkersInBounds(eq(mockUser),
+        anyString(), anyString(), anyString(), anyString(),
+        anyString(), anyString(), anyString(), anyString(),
+        any(), any(), any(), any()))
+        .thenReturn(List.of(
+            createMarker(1L, 37.5700, 126.9780),   // 약 390m
+            createMarker(2L, 37.5666, 126.9781),   // 약 14m
+            createMarker(3L, 37.5750, 126.9900),   // 약 1.4km, 반경 밖
+            createMarker(4L, 37.5650, 126.9760))); // 약 250m
+
+    // when
+    Page<NearbyMarkerResponseDto> firstPage = nearbyPostSearch.search(mockUser,
+        Coordinate.ofDegrees(37.5665), Coordinate.ofDegrees(126.9780), 1_000, PageRequest.of(0, 2));
+
+    // then
+    assertEquals(3, firstPage.getTotalElements(), "반경 안의 마커 수가 예상과 일치해야 합니다.");
+    assertThat(firstPage.getContent()).extracting("id").containsExactly(2L, 4L);
+    assertThat(firstPage.getContent().get(0).distance()).isLessThan(20);
+  }
+
+  private PostMarkersQueryDto createMarker(Long id, double latitude, double longitude) {
+    return PostMarkersQueryDto.builder()
+        .id(id)
+        .latitude(Coordinate.ofDegrees(latitude))
+        .longitude(Coordinate.ofDegrees(longitude))
+        .color(MarkerColor.RED)
+        .score(5)
+        .build();
+  }
+}
@@ -0,0 +1,78 @@
+package svsite.matzip.foody.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.global.config.AuditConfig;
+
+// geohash 셀 범위로 후보를 고른 뒤 위경도 조건으로 영역 밖의 마커를 걸러내는지 확인한다.
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@ActiveProfiles("test")
+@Import(AuditConfig.class)
+class MarkerBoundsQueryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(User.builder()
+        .email("marker-bounds@example.com")
+        .password("password")
+        .build());
+  }
+
+  @Test
+  @DisplayName("영역 안과 경계 위의 마커는 포함하고, 같은 셀에 있지만 영역 밖인 마커는 제외한다")
+  void find_filtersPointsOutsideBounds() {
+    // given
+    Post inside = persistPost("37.550000", "127.000000");
+    Post onCorner = persistPost("37.600000", "127.050000");
+    Post justOutside = persistPost("37.601000", "127.000000");  // 37.60 경계 바로 밖, 같은 geohash 셀
+    Post farAway = persistPost("35.179600", "129.075600");
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<PostMarkersQueryDto> markers = MarkerBoundsQuery.find(postRepository, user,
+        Coordinate.ofDegrees(37.50), Coordinate.ofDegrees(37.60),
+        Coordinate.ofDegrees(126.90), Coordinate.ofDegrees(127.05));
+
+    // then
+    assertThat(markers).extracting(PostMarkersQueryDto::getId)
+        .containsExactlyInAnyOrder(inside.getId(), onCorner.getId())
+        .doesNotContain(justOutside.getId(), farAway.getId());
+  }
+
+  private Post persistPost(String latitude, String longitude) {
+    return entityManager.persist(Post.create(new CreatePostDto(
+        new BigDecimal(latitude), new BigDecimal(longitude), MarkerColor.RED,
+        "주소", "맛집", "설명", LocalDateTime.of(2025, 2, 8, 12, 0), 5, List.of()), user));
+  }
+}
@@ -0,0 +1,119 @@
+package svsite.matzip.foody.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.post.api.dto.response.DailyActivityResponseDto;
+import svsite.matzip.foody.domain.post.entity.MarkerColor;
+import svsite.matzip.foody.domain.post.entity.Post;
+import svsite.matzip.foody.domain.post.entity.PostDailyActivity;
+import svsite.matzip.foody.domain.post.repository.PostDailyActivityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PostActivityServiceTest {
+
+  @InjectMocks
+  private PostActivityService postActivityService;
+
+  @Mock
+  private PostDailyActivityRepository activityRepository;
+
+  private final User user = User.builder().id(7L).email("test@example.com").build();
+
+  @Test
+  @DisplayName("게시글 등록 시 해당 일자의 개수, 점수, 색상을 하나씩 더한다")
+  void recordCreated() {
+    postActivityService.recordCreated(post(LocalDateTime.of(2025, 2, 8, 12, 0), MarkerColor.BLUE, 9));
+
+    verify(activityRepository).accumulate(7L, LocalDate.of(2025, 2, 8), 1, 9L, 1, 0, 1, 0, 0, 0);
+  }
+
+  @Test
+  @DisplayName("게시글 수정으로 날짜가 바뀌면 이전 일자에서 빼고 새 일자에 더한다")
+  void recordUpdated_movesDay() {
+    PostActivityService.Snapshot before =
+        new PostActivityService.Snapshot(LocalDate.of(2025, 2, 7), MarkerColor.RED, 8);
+
+    postActivityService.recordUpdated(before, post(LocalDateTime.of(2025, 2, 8, 15, 30), MarkerColor.RED, null));
+
+    verify(activityRepository).accumulate(7L, LocalDate.of(2025, 2, 7), -1, -8L, -1, -1, 0, 0, 0, 0);
+    verify(activityRepository).accumulate(7L, LocalDate.of(2025, 2, 8), 1, 0L, 0, 1, 0, 0, 0, 0);
+  }
+
+  @Test
+  @DisplayName("집계 값이 바뀌지 않는 수정은 집계를 갱신하지 않는다")
+  void recordUpdated_unchanged() {
+    Post post = post(LocalDateTime.of(2025, 2, 8, 15, 30), MarkerColor.RED, 8);
+
+    postActivityService.recordUpdated(PostActivityService.Snapshot.of(post), post);
+
+    verify(activityRepository, never()).accumulate(anyLong(), any(), anyInt(), anyLong(), anyInt(),
+        anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("저장되지 않은 사용자의 게시글이면 집계하지 않고 예외를 던진다")
+  void recordCreated_unsavedUser() {
+    Post post = Post.builder()
+        .user(User.builder().email("test@example.com").build())
+        .date(LocalDateTime.of(2025, 2, 8, 12, 0))
+        .color(MarkerColor.BLUE)
+        .build();
+
+    assertThrows(IllegalStateException.class, () -> postActivityService.recordCreated(post));
+    verify(activityRepository, never()).accumulate(anyLong(), any(), anyInt(), anyLong(), anyInt(),
+        anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("연간 히트맵은 1월 1일부터 다음 해 1월 1일 전까지 집계를 조회한다")
+  void getYearActivity() {
+    when(activityRepository.findActivities(user, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1)))
+        .thenReturn(List.of(PostDailyActivity.builder()
+            .user(user)
+            .day(LocalDate.of(2025, 3, 1))
+            .postCount(3)
+            .scoreSum(17)
+            .scoreCount(2)
+            .redCount(2)
+            .greenCount(1)
+            .build()));
+
+    List<DailyActivityResponseDto> result = postActivityService.getYearActivity(2025, user);
+
+    assertThat(result).hasSize(1);
+    DailyActivityResponseDto day = result.getFirst();
+    assertThat(day.date()).isEqualTo(LocalDate.of(2025, 3, 1));
+    assertThat(day.count()).isEqualTo(3);
+    assertThat(day.averageScore()).isEqualTo(8.5);
+    assertThat(day.colors()).isEqualTo(Map.of(MarkerColor.RED, 2, MarkerColor.GREEN, 1));
+  }
+
+  private Post post(LocalDateTime date, MarkerColor color, Integer score) {
+    return Post.builder()
+        .id(1L)
+        .title("맛집")
+        .date(date)
+        .color(color)
+        .score(score)
+        .user(user)
+        .build();
+  }
+}
@@ -3,17 +3,23 @@ package svsite.matzip.foody.domain.post.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.INVALID_CURSOR;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,15 +40,30 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import svsite.matzip.foody.domain.auth.entity.User;
+import svsite.matzip.foody.domain.image.entity.Image;
 import svsite.matzip.foody.domain.post.api.dto.request.CreatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.request.MarkerBoundsDto;
+import svsite.matzip.foody.domain.post.api.dto.request.NearbySearchDto;
 import svsite.matzip.foody.domain.post.api.dto.request.UpdatePostDto;
+import svsite.matzip.foody.domain.post.api.dto.response.CalendarDayResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerChangesResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.MarkerClusterResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.MarkersResponseDto;
+import svsite.matzip.foody.domain.post.api.dto.response.NearbyMarkerResponseDto;
 import svsite.matzip.foody.domain.post.api.dto.response.PostResponseDto;
+import svsite.matzip.foody.domain.post.cache.MarkerCache;
+import svsite.matzip.foody.domain.post.entity.Coordinate;
 import svsite.matzip.foody.domain.post.entity.MarkerColor;
 import svsite.matzip.foody.domain.post.entity.Post;
 import svsite.matzip.foody.domain.post.repository.PostRepository;
+import svsite.matzip.foody.domain.post.repository.dto.PostCalendarQueryDto;
+import svsite.matzip.foody.domain.post.repository.dto.PostMarkerChangeQueryDto;
 import svsite.matzip.foody.domain.post.repository.dto.PostMarkersQueryDto;
+import svsite.matzip.foody.domain.post.search.PostSearchEngine;
+import svsite.matzip.foody.global.auth.AuthPrincipal;
 import svsite.matzip.foody.global.exception.support.CustomException;
+import svsite.matzip.foody.global.util.pagination.CursorPageResponseDto;
+import svsite.matzip.foody.global.util.pagination.DateIdCursor;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -52,38 +74,50 @@ class PostServiceTest {
   @Mock
   private PostRepository postRepository;
 
+  @Spy
+  private MarkerCache markerCache = new MarkerCache(1_000, Duration.ofMinutes(1));
+
+  @Mock
+  private NearbyPostSearch nearbyPostSearch;
+
+  @Mock
+  private PostSearchEngine postSearchEngine;
+
+  @Mock
+  private PostActivityService postActivityService;
+
   @Test
   @DisplayName("등록된 맛집 마커가 없을 경우 빈 리스트를 반환한다")
   void getAllMarkers_emptyList() {
     // given
-    User mockUser = User.builder().email("empty@example.com").build();
+    AuthPrincipal principal = new AuthPrincipal(1L, "empty@example.com");
 
-    when(postRepository.getAllMarkers(mockUser)).thenReturn(Collections.emptyList());
+    when(postRepository.getAllMarkers(1L)).thenReturn(Collections.emptyList());
 
     // when
-    List<MarkersResponseDto> allMarkers = postService.getAllMarkers(mockUser);
+    List<MarkersResponseDto> allMarkers = postService.getAllMarkers(principal);
 
     // then
     assertNotNull(allMarkers, "결과 리스트는 null이 아니어야 합니다.");
     assertTrue(allMarkers.isEmpty(), "결과 리스트는 빈 리스트여야 합니다.");
   }
 
-  private BigDecimal roundCoordinate(double value) {
-    return BigDecimal.valueOf(value).setScale(6, RoundingMode.HALF_UP);
+  private Coordinate roundCoordinate(double value) {
+    return Coordinate.ofDegrees(value);
   }
 
   @Test
   @DisplayName("등록된 맛집 마커 목록을 올바르게 조회한다")
   void getAllMarkers() {
     // given
-    User mockUser = User.builder().email("test@example.com").build();
+    AuthPrincipal principal = new AuthPrincipal(1L, "test@example.com");
     List<PostMarkersQueryDto> markersResponseDtos = getMockedMarkers();
 
     // Mock 설정
-    when(postRepository.getAllMarkers(any(User.class))).thenReturn(markersResponseDtos);
+    when(postRepository.getAllMarkers(1L)).thenReturn(markersResponseDtos);
 
     // when
-    List<MarkersResponseDto> allMarkers = postService.getAllMarkers(mockUser);
+    List<MarkersResponseDto> allMarkers = postService.getAllMarkers(principal);
 
     // then
     assertThat(allMarkers).hasSize(3)
@@ -95,6 +129,116 @@ class PostServiceTest {
         );
   }
 
+  @Test
+  @DisplayName("마커 목록은 캐시에서 조회하고, 게시글이 등록되면 캐시를 무효화한다")
+  void getAllMarkers_cachedUntilPostCreated() {
+    // given
+    User mockUser = User.builder().id(1L).email("test@example.com").build();
+    AuthPrincipal principal = AuthPrincipal.from(mockUser);
+    when(postRepository.getAllMarkers(1L)).thenReturn(getMockedMarkers());
+    when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
+      Post post = invocation.getArgument(0);
+      if (post.getImages() == null) {
+        post.addImages(Collections.emptyList());
+      }
+      return post;
+    });
+
+    // when
+    List<MarkersResponseDto> first = postService.getAllMarkers(principal);
+    List<MarkersResponseDto> second = postService.getAllMarkers(principal);
+    postService.createPost(getSampleCreatePostDto(), mockUser);
+    postService.getAllMarkers(principal);
+
+    // then
+    assertThat(second).usingRecursiveFieldByFieldElementComparator().isEqualTo(first);
+    assertThat(second).extracting("latitude")
+        .containsExactly(roundCoordinate(37.5665), roundCoordinate(35.1796),
+            roundCoordinate(33.4996));
+    verify(postRepository, times(2)).getAllMarkers(1L);
+    assertEquals(1, markerCache.stats().hits(), "두 번째 조회는 캐시에서 응답해야 합니다.");
+    assertEquals(2, markerCache.stats().misses(), "최초 조회와 무효화 이후 조회는 DB를 조회해야 합니다.");
+  }
+
+  @Test
+  @DisplayName("지도 화면 영역 안의 마커를 geohash 셀 범위로 조회한다")
+  void getMarkersInBounds() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    MarkerBoundsDto bounds = new MarkerBoundsDto(
+        BigDecimal.valueOf(37.50), BigDecimal.valueOf(37.60), BigDecimal.valueOf(126.90),
+        BigDecimal.valueOf(127.00));
+
+    when(postRepository.findMarkersInBounds(eq(mockUser),
+        anyString(), anyString(), anyString(), anyString(),
+        anyString(), anyString(), anyString(), anyString(),
+        eq(Coordinate.of(bounds.minLatitude())), eq(Coordinate.of(bounds.maxLatitude())),
+        eq(Coordinate.of(bounds.minLongitude())), eq(Coordinate.of(bounds.maxLongitude()))))
+        .thenReturn(List.of(createMarker(1L, 37.5665, 126.9780, MarkerColor.RED, 10)));
+
+    // when
+    List<MarkersResponseDto> markers = postService.getMarkersInBounds(bounds, mockUser);
+
+    // then
+    assertThat(markers).hasSize(1)
+        .extracting("id", "color")
+        .containsExactly(tuple(1L, MarkerColor.RED));
+  }
+
+  @Test
+  @DisplayName("줌 레벨에 맞는 셀 단위로 마커를 묶어 개수, 대표 색상, 평균 점수를 계산한다")
+  void getMarkerClusters() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    MarkerBoundsDto bounds = new MarkerBoundsDto(
+        BigDecimal.valueOf(33.0), BigDecimal.valueOf(38.0), BigDecimal.valueOf(126.0),
+        BigDecimal.valueOf(130.0));
+
+    when(postRepository.findMarkersInBounds(eq(mockUser),
+        anyString(), anyString(), anyString(), anyString(),
+        anyString(), anyString(), anyString(), anyString(),
+        any(), any(), any(), any()))
+        .thenReturn(List.of(
+            createMarker(1L, 37.5665, 126.9780, MarkerColor.RED, 10),
+            createMarker(2L, 37.5651, 126.9895, MarkerColor.RED, 6),
+            createMarker(3L, 37.5700, 126.9820, MarkerColor.BLUE, 8),
+            createMarker(4L, 35.1796, 129.0756, MarkerColor.GREEN, 9)
+        ));
+
+    // when
+    List<MarkerClusterResponseDto> clusters = postService.getMarkerClusters(bounds, 8, mockUser);
+
+    // then
+    assertThat(clusters).hasSize(2);
+    MarkerClusterResponseDto seoul = clusters.stream()
+        .filter(cluster -> cluster.count() == 3)
+        .findFirst()
+        .orElseThrow();
+    assertEquals(MarkerColor.RED, seoul.color(), "가장 많이 사용된 색상이 대표 색상이어야 합니다.");
+    assertEquals(8.0, seoul.averageScore(), "평균 점수가 예상 값과 일치해야 합니다.");
+    assertEquals(roundCoordinate((37.5665 + 37.5651 + 37.5700) / 3), seoul.latitude(),
+        "중심 위도가 예상 값과 일치해야 합니다.");
+  }
+
+  @Test
+  @DisplayName("주변 마커 조회는 기준 좌표를 고정소수점으로 변환해 검색 전략에 위임한다")
+  void getNearbyMarkers() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    NearbySearchDto search = new NearbySearchDto(BigDecimal.valueOf(37.5665),
+        BigDecimal.valueOf(126.9780), 500);
+    PageRequest pageable = PageRequest.of(0, 20);
+    Page<NearbyMarkerResponseDto> expected = new PageImpl<>(List.of(), pageable, 0);
+    when(nearbyPostSearch.search(mockUser, roundCoordinate(37.5665), roundCoordinate(126.9780),
+        500, pageable)).thenReturn(expected);
+
+    // when
+    Page<NearbyMarkerResponseDto> result = postService.getNearbyMarkers(search, pageable, mockUser);
+
+    // then
+    assertEquals(expected, result, "검색 전략의 결과를 그대로 반환해야 합니다.");
+  }
+
   @Test
   @DisplayName("맛집 글을 성공적으로 등록한다")
   void createPost() {
@@ -117,6 +261,7 @@ class PostServiceTest {
     assertEquals(createPostDto.title(), responseDto.title(), "제목이 예상 값과 일치해야 합니다.");
 
     verify(postRepository).save(any(Post.class));
+    verify(postActivityService).recordCreated(any(Post.class));
   }
 
   @Test
@@ -130,8 +275,8 @@ class PostServiceTest {
 
     Post existingPost = Post.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("기존 맛집 소개")
@@ -166,6 +311,8 @@ class PostServiceTest {
 
     verify(postRepository).findByPostIdAndUser(1L, mockUser);
     verify(postRepository).save(any(Post.class));
+    verify(postActivityService).recordUpdated(
+        new PostActivityService.Snapshot(LocalDate.of(2025, 2, 7), MarkerColor.RED, 8), existingPost);
   }
 
   @Test
@@ -176,8 +323,8 @@ class PostServiceTest {
 
     Post existingPost = Post.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("기존 맛집 소개")
@@ -186,6 +333,7 @@ class PostServiceTest {
         .score(8)
         .user(mockUser)
         .build();
+    existingPost.addImage(Image.builder().uri("https://example.com/1.jpg").build());
 
     // Mock 설정: 게시글이 존재하는 경우
     when(postRepository.findByPostIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingPost));
@@ -195,7 +343,9 @@ class PostServiceTest {
 
     // then
     verify(postRepository).findByPostIdAndUser(1L, mockUser);  // 게시글 조회 검증
-    verify(postRepository).delete(existingPost);               // 삭제 메서드 호출 검증
+    assertTrue(existingPost.isDeleted(), "게시글은 툼스톤으로 남아야 합니다.");
+    assertThat(existingPost.getImages()).as("툼스톤에는 이미지가 남지 않아야 합니다.").isEmpty();
+    verify(postRepository, never()).delete(any(Post.class));
   }
 
   @Test
@@ -216,11 +366,85 @@ class PostServiceTest {
     verify(postRepository, never()).delete(any(Post.class));
   }
 
+  @Test
+  @DisplayName("since 이후 변경된 마커와 삭제된 마커 ID를 워터마크와 함께 조회한다")
+  void getMarkerChanges() {
+    // given
+    User mockUser = User.builder().email("test@example.com").nickname("테스터").build();
+    LocalDateTime since = LocalDateTime.now().minusHours(1);
+
+    List<PostMarkerChangeQueryDto> changes = List.of(
+        PostMarkerChangeQueryDto.builder()
+            .id(1L)
+            .latitude(roundCoordinate(37.5665))
+            .longitude(roundCoordinate(126.9780))
+            .color(MarkerColor.RED)
+            .score(10)
+            .build(),
+        PostMarkerChangeQueryDto.builder()
+            .id(2L)
+            .latitude(roundCoordinate(35.1796))
+            .longitude(roundCoordinate(129.0756))
+            .color(MarkerColor.BLUE)
+            .score(8)
+            .deletedAt(LocalDateTime.now().minusMinutes(10))
+            .build());
+    LocalDateTime from = since.minus(PostService.MARKER_SYNC_OVERLAP);
+    when(postRepository.findMarkerChanges(eq(mockUser), eq(from), any(LocalDateTime.class)))
+        .thenReturn(changes);
+
+    // when
+    MarkerChangesResponseDto result = postService.getMarkerChanges(since, mockUser);
+
+    // then
+    assertThat(result.upserts()).extracting("id").containsExactly(1L);
+    assertThat(result.deletedIds()).containsExactly(2L);
+    assertTrue(result.watermark().isAfter(since), "워터마크는 since 이후여야 합니다.");
+    assertFalse(result.watermark().isAfter(LocalDateTime.now()), "워터마크는 현재 시각 이후일 수 없습니다.");
+    assertFalse(result.fullSync(), "변경분 응답은 전체 동기화가 아니어야 합니다.");
+    verify(postRepository).findMarkerChanges(mockUser, from, result.watermark());  // 겹치는 구간부터 다시 조회
+  }
+
+  @Test
+  @DisplayName("since가 툼스톤 보관 기간보다 오래되면 전체 마커를 전체 동기화로 반환한다")
+  void getMarkerChanges_sinceBeforeHorizon() {
+    // given
+    User mockUser = User.builder().id(1L).email("test@example.com").nickname("테스터").build();
+    LocalDateTime since = LocalDateTime.now().minus(PostService.MARKER_SYNC_HORIZON).minusDays(1);
+    when(postRepository.getAllMarkers(1L)).thenReturn(List.of());
+
+    // when
+    MarkerChangesResponseDto result = postService.getMarkerChanges(since, mockUser);
+
+    // then
+    assertTrue(result.fullSync(), "보관 기간이 지난 since는 전체 동기화여야 합니다.");
+    verify(postRepository).getAllMarkers(1L);
+    verify(postRepository, never()).findMarkerChanges(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("since가 서버 시각보다 늦으면 전체 동기화로 반환하고 워터마크는 서버 시각으로 돌려준다")
+  void getMarkerChanges_sinceAfterWatermark() {
+    // given
+    User mockUser = User.builder().id(1L).email("test@example.com").nickname("테스터").build();
+    LocalDateTime since = LocalDateTime.now().plusMinutes(1);
+    when(postRepository.getAllMarkers(1L)).thenReturn(List.of());
+
+    // when
+    MarkerChangesResponseDto result = postService.getMarkerChanges(since, mockUser);
+
+    // then
+    assertTrue(result.fullSync(), "미래의 since는 전체 동기화여야 합니다.");
+    assertTrue(result.watermark().isBefore(since), "워터마크는 since가 아닌 서버 시각이어야 합니다.");
+    verify(postRepository).getAllMarkers(1L);
+    verify(postRepository, never()).findMarkerChanges(any(), any(), any());
+  }
+
   @Test
   @DisplayName("등록된 맛집 게시글 목록을 페이지 단위로 성공적으로 조회한다")
   void getPosts_success() {
     // given
-    User mockUser = User.builder().email("test@example.com").build();
+    AuthPrincipal principal = new AuthPrincipal(1L, "test@example.com");
     PageRequest pageable = PageRequest.of(0, 10);
 
     List<Post> posts = List.of(
@@ -228,37 +452,99 @@ class PostServiceTest {
         createMockPost(2L, "맛집 소개 2", "맛있는 집입니다 2")
     );
 
-    Page<Post> postPage = new PageImpl<>(posts, pageable, posts.size());
-
-    when(postRepository.findAllRecentPost(pageable, mockUser)).thenReturn(postPage);
+    when(postRepository.findRecentPostIdPage(1L, pageable))
+        .thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, 2));
+    when(postRepository.findAllWithImagesByIdIn(List.of(1L, 2L))).thenReturn(posts);
 
     // when
-    Page<PostResponseDto> result = postService.getPosts(pageable, mockUser);
+    Page<PostResponseDto> result = postService.getPosts(pageable, principal);
 
     // then
     assertNotNull(result, "결과는 null이 아니어야 합니다.");
     assertEquals(2, result.getContent().size(), "게시글 개수가 예상과 일치해야 합니다.");
     assertEquals("맛집 소개 1", result.getContent().getFirst().title(), "첫 번째 게시글 제목이 예상 값과 일치해야 합니다.");
+    assertEquals(2, result.getTotalElements(), "전체 개수가 예상과 일치해야 합니다.");
 
-    verify(postRepository).findAllRecentPost(pageable, mockUser);
+    verify(postRepository).findRecentPostIdPage(1L, pageable);
   }
 
   @Test
   @DisplayName("등록된 게시글이 없을 경우 빈 페이지를 반환한다")
   void getPosts_emptyPage() {
     // given
-    User mockUser = User.builder().email("empty@example.com").build();
+    AuthPrincipal principal = new AuthPrincipal(1L, "empty@example.com");
     PageRequest pageable = PageRequest.of(0, 10);
 
-    when(postRepository.findAllRecentPost(pageable, mockUser)).thenReturn(Page.empty(pageable));
+    when(postRepository.findRecentPostIdPage(1L, pageable)).thenReturn(Page.empty(pageable));
 
     // when
-    Page<PostResponseDto> result = postService.getPosts(pageable, mockUser);
+    Page<PostResponseDto> result = postService.getPosts(pageable, principal);
 
     // then
     assertNotNull(result, "결과는 null이 아니어야 합니다.");
     assertTrue(result.isEmpty(), "결과 페이지는 빈 페이지여야 합니다.");
-    verify(postRepository).findAllRecentPost(pageable, mockUser);
+    verify(postRepository).findRecentPostIdPage(1L, pageable);
+    verify(postRepository, never()).findAllWithImagesByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("커서로 다음 페이지를 조회하고, 마지막 항목의 (date, id)로 다음 커서를 만든다")
+  void scrollPosts() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    LocalDateTime date = LocalDateTime.of(2025, 2, 7, 12, 0);
+    DateIdCursor cursor = new DateIdCursor(date, 10L);
+
+    when(postRepository.findRecentPostIdsAfter(mockUser, date, 10L, PageRequest.of(0, 3)))
+        .thenReturn(List.of(9L, 7L, 5L));
+    when(postRepository.findAllWithImagesByIdIn(List.of(9L, 7L, 5L))).thenReturn(List.of(
+        createMockPost(5L, "맛집 5", "설명 5", date.minusDays(2)),
+        createMockPost(9L, "맛집 9", "설명 9", date),
+        createMockPost(7L, "맛집 7", "설명 7", date.minusDays(1))));
+
+    // when
+    CursorPageResponseDto<PostResponseDto> result = postService.scrollPosts(cursor.encode(), 2,
+        false, mockUser);
+
+    // then
+    assertThat(result.content()).extracting("id").containsExactly(9L, 7L);
+    assertTrue(result.hasNext(), "다음 페이지가 있어야 합니다.");
+    assertEquals(new DateIdCursor(date.minusDays(1), 7L), DateIdCursor.decode(result.nextCursor()),
+        "다음 커서는 마지막 항목을 가리켜야 합니다.");
+    assertNull(result.totalElements(), "withTotal이 false이면 전체 개수를 조회하지 않습니다.");
+    verify(postRepository, never()).countByUserAndDeletedAtIsNull(any());
+  }
+
+  @Test
+  @DisplayName("첫 페이지를 전체 개수와 함께 조회하고, 마지막 페이지면 다음 커서가 없다")
+  void scrollPosts_firstPageWithTotal() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+
+    when(postRepository.findRecentPostIds(mockUser, PageRequest.of(0, 11))).thenReturn(List.of(1L));
+    when(postRepository.findAllWithImagesByIdIn(List.of(1L)))
+        .thenReturn(List.of(createMockPost(1L, "맛집 소개 1", "맛있는 집입니다 1")));
+    when(postRepository.countByUserAndDeletedAtIsNull(mockUser)).thenReturn(1L);
+
+    // when
+    CursorPageResponseDto<PostResponseDto> result = postService.scrollPosts(null, 10, true, mockUser);
+
+    // then
+    assertEquals(1, result.content().size(), "게시글 개수가 예상과 일치해야 합니다.");
+    assertFalse(result.hasNext(), "다음 페이지가 없어야 합니다.");
+    assertNull(result.nextCursor(), "마지막 페이지에는 커서가 없어야 합니다.");
+    assertEquals(1L, result.totalElements(), "전체 개수가 예상과 일치해야 합니다.");
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+  void scrollPosts_invalidCursor() {
+    User mockUser = User.builder().email("test@example.com").build();
+
+    CustomException exception = assertThrows(CustomException.class,
+        () -> postService.scrollPosts("not-a-cursor", 10, false, mockUser));
+
+    assertEquals(INVALID_CURSOR, exception.getErrorCode(), "에러 코드가 예상과 일치해야 합니다.");
   }
 
   @Test
@@ -269,8 +555,8 @@ class PostServiceTest {
 
     Post existingPost = Post.builder()
         .id(1L)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title("맛집 소개")
@@ -327,7 +613,9 @@ class PostServiceTest {
         createMockPost(3L, "맛집 소개 3", "맛있는 집입니다 3", LocalDateTime.of(2025, 2, 8, 18, 0, 0))
     );
 
-    when(postRepository.findPostsByMonth(year, month, mockUser)).thenReturn(posts);
+    LocalDateTime from = LocalDateTime.of(2025, 2, 1, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 3, 1, 0, 0);
+    when(postRepository.findPostsBetween(mockUser, from, to)).thenReturn(posts);
 
     // when
     Map<Integer, List<PostResponseDto>> result = postService.getPostsByMonth(year, month, mockUser);
@@ -347,7 +635,7 @@ class PostServiceTest {
     assertEquals(1, day9Posts.size(), "9일 날짜 그룹에 하나의 게시글이 있어야 합니다.");
     assertEquals("맛집 소개 2", day9Posts.getFirst().title(), "9일 날짜 그룹의 게시글 제목이 예상과 일치해야 합니다.");
 
-    verify(postRepository).findPostsByMonth(year, month, mockUser);
+    verify(postRepository).findPostsBetween(mockUser, from, to);
   }
 
   @Test
@@ -358,8 +646,9 @@ class PostServiceTest {
     int year = 2025;
     int month = 1;
 
-    when(postRepository.findPostsByMonth(year, month, mockUser)).thenReturn(
-        Collections.emptyList());
+    LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+    when(postRepository.findPostsBetween(mockUser, from, to)).thenReturn(Collections.emptyList());
 
     // when
     Map<Integer, List<PostResponseDto>> result = postService.getPostsByMonth(year, month, mockUser);
@@ -367,7 +656,32 @@ class PostServiceTest {
     // then
     assertNotNull(result, "결과는 null이 아니어야 합니다.");
     assertTrue(result.isEmpty(), "결과는 빈 맵이어야 합니다.");
-    verify(postRepository).findPostsByMonth(year, month, mockUser);
+    verify(postRepository).findPostsBetween(mockUser, from, to);
+  }
+
+  @Test
+  @DisplayName("12월 캘린더는 다음 해 1월 1일 전까지의 게시글을 일자별로 요약한다")
+  void getCalendar_summarizesByDay() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    LocalDateTime from = LocalDateTime.of(2024, 12, 1, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 1, 1, 0, 0);
+    when(postRepository.findCalendarEntries(mockUser, from, to)).thenReturn(List.of(
+        new PostCalendarQueryDto(LocalDateTime.of(2024, 12, 3, 12, 0), MarkerColor.BLUE, 7),
+        new PostCalendarQueryDto(LocalDateTime.of(2024, 12, 3, 18, 0), MarkerColor.RED, 9),
+        new PostCalendarQueryDto(LocalDateTime.of(2024, 12, 3, 20, 0), MarkerColor.RED, null),
+        new PostCalendarQueryDto(LocalDateTime.of(2024, 12, 31, 23, 59), null, null)
+    ));
+
+    // when
+    List<CalendarDayResponseDto> result = postService.getCalendar(2024, 12, mockUser);
+
+    // then
+    assertThat(result).extracting(CalendarDayResponseDto::day, CalendarDayResponseDto::count,
+            CalendarDayResponseDto::colors, CalendarDayResponseDto::topScore)
+        .containsExactly(
+            tuple(3, 3, List.of(MarkerColor.RED, MarkerColor.BLUE), 9),
+            tuple(31, 1, List.of(), null));
   }
 
   @Test
@@ -386,10 +700,9 @@ class PostServiceTest {
         createMockPost(2L, "맛집 소개 2", "부산광역시 중구")
     );
 
-    Page<Post> postPage = new PageImpl<>(posts, pageable, posts.size());
-
-    when(postRepository.searchByTitleOrAddress(eq("맛집"), eq(mockUser), eq(pageable)))
-        .thenReturn(postPage);
+    when(postRepository.searchPostIdsByTitleOrAddress(eq("맛집"), eq(mockUser), eq(pageable)))
+        .thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, posts.size()));
+    when(postRepository.findAllWithImagesByIdIn(List.of(1L, 2L))).thenReturn(posts);
 
     // when
     Page<PostResponseDto> result = postService.searchMyPostsByTitleAndAddress(pageable, "맛집",
@@ -402,7 +715,7 @@ class PostServiceTest {
     assertEquals("서울특별시 종로구", result.getContent().getFirst().address(),
         "첫 번째 게시글 주소가 예상 값과 일치해야 합니다.");
 
-    verify(postRepository).searchByTitleOrAddress(eq("맛집"), eq(mockUser), eq(pageable));
+    verify(postRepository).searchPostIdsByTitleOrAddress(eq("맛집"), eq(mockUser), eq(pageable));
   }
 
   @Test
@@ -412,7 +725,7 @@ class PostServiceTest {
     User mockUser = User.builder().email("test@example.com").nickname("테스터").build();
     Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
 
-    when(postRepository.searchByTitleOrAddress(eq("없는 키워드"), eq(mockUser), eq(pageable)))
+    when(postRepository.searchPostIdsByTitleOrAddress(eq("없는 키워드"), eq(mockUser), eq(pageable)))
         .thenReturn(Page.empty(pageable));
 
     // when
@@ -422,14 +735,36 @@ class PostServiceTest {
     // then
     assertNotNull(result, "결과는 null이 아니어야 합니다.");
     assertTrue(result.isEmpty(), "결과 페이지는 빈 페이지여야 합니다.");
-    verify(postRepository).searchByTitleOrAddress(eq("없는 키워드"), eq(mockUser), eq(pageable));
+    verify(postRepository).searchPostIdsByTitleOrAddress(eq("없는 키워드"), eq(mockUser), eq(pageable));
+    verify(postRepository, never()).findAllWithImagesByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("관련도순 검색은 검색 엔진이 정한 순서대로 게시글을 반환한다")
+  void searchMyPostsRanked_keepsEngineOrder() {
+    // given
+    User mockUser = User.builder().email("test@example.com").build();
+    Pageable pageable = PageRequest.of(0, 10);
+    when(postSearchEngine.search(mockUser, "국밥", pageable))
+        .thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+    when(postRepository.findAllWithImagesByIdIn(List.of(2L, 1L))).thenReturn(List.of(
+        createMockPost(1L, "국밥 골목", "설명"),
+        createMockPost(2L, "돼지국밥", "설명")
+    ));
+
+    // when
+    Page<PostResponseDto> result = postService.searchMyPostsRanked("국밥", pageable, mockUser);
+
+    // then
+    assertThat(result.getContent()).extracting(PostResponseDto::id).containsExactly(2L, 1L);
+    assertEquals(2, result.getTotalElements());
   }
 
   private Post createMockPost(Long id, String title, String description) {
     return Post.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title(title)
@@ -443,8 +778,8 @@ class PostServiceTest {
   private Post createMockPost(Long id, String title, String description, LocalDateTime date) {
     return Post.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(37.5665))
-        .longitude(BigDecimal.valueOf(126.9780))
+        .latitude(Coordinate.ofDegrees(37.5665))
+        .longitude(Coordinate.ofDegrees(126.9780))
         .color(MarkerColor.RED)
         .address("서울특별시 종로구")
         .title(title)
@@ -474,8 +809,8 @@ class PostServiceTest {
       int score) {
     return PostMarkersQueryDto.builder()
         .id(id)
-        .latitude(BigDecimal.valueOf(lat).setScale(6, RoundingMode.HALF_UP))
-        .longitude(BigDecimal.valueOf(lon).setScale(6, RoundingMode.HALF_UP))
+        .latitude(Coordinate.ofDegrees(lat))
+        .longitude(Coordinate.ofDegrees(lon))
         .color(color)
         .score(score)
         .build();
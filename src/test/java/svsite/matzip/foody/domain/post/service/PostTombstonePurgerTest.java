@@ -0,0 +1,50 @@
+package svsite.matzip.foody.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import svsite.matzip.foody.domain.favorite.repository.FavoriteRepository;
+import svsite.matzip.foody.domain.image.repository.ImageRepository;
+import svsite.matzip.foody.domain.post.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PostTombstonePurgerTest {
+
+  @InjectMocks
+  private PostTombstonePurger purger;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private ImageRepository imageRepository;
+
+  @Mock
+  private FavoriteRepository favoriteRepository;
+
+  @Test
+  @DisplayName("동기화 보관 기간이 지난 툼스톤을 자식 행부터 지운다")
+  void purge() {
+    LocalDateTime before = LocalDateTime.now().minus(PostService.MARKER_SYNC_HORIZON);
+
+    purger.purge();
+
+    ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+    InOrder inOrder = inOrder(favoriteRepository, imageRepository, postRepository);
+    inOrder.verify(favoriteRepository).deleteAllOfPostsDeletedBefore(cutoff.capture());
+    inOrder.verify(imageRepository).deleteAllOfPostsDeletedBefore(any());
+    inOrder.verify(postRepository).deleteTombstonesBefore(any());
+    assertThat(cutoff.getValue()).isAfterOrEqualTo(before)
+        .isBeforeOrEqualTo(LocalDateTime.now().minus(PostService.MARKER_SYNC_HORIZON));
+  }
+}
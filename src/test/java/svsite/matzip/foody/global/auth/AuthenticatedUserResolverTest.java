@@ -1,11 +1,15 @@
 package svsite.matzip.foody.global.auth;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static svsite.matzip.foody.global.exception.errorCode.ErrorCodes.USER_NOT_FOUND;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -38,7 +42,10 @@ class AuthenticatedUserResolverTest {
   private UserRepository userRepository;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private RefreshTokenHasher refreshTokenHasher;
+
+  @Spy
+  private AuthenticatedUserCache authenticatedUserCache = new AuthenticatedUserCache(100, Duration.ofMinutes(1));
 
   @Mock
   private NativeWebRequest webRequest;
@@ -60,6 +67,12 @@ class AuthenticatedUserResolverTest {
   private void dummyMethod(@AuthenticatedUser(JwtTokenType.REFRESH) User user) {
   }
 
+  private void accessMethod(@AuthenticatedUser User user) {
+  }
+
+  private void principalMethod(@AuthenticatedUser AuthPrincipal principal) {
+  }
+
 
   @Test
   @DisplayName("토큰이 없을 경우 CustomException을 발생시킨다.")
@@ -103,7 +116,7 @@ class AuthenticatedUserResolverTest {
             .hashedRefreshToken("encodedValidRefreshToken")  // RefreshToken 설정
             .build())
     );
-    when(passwordEncoder.matches(token, "encodedValidRefreshToken")).thenReturn(true);  // 매칭 설정
+    when(refreshTokenHasher.matches(token, "encodedValidRefreshToken")).thenReturn(true);  // 매칭 설정
 
     // when
     User result = (User) resolver.resolveArgument(methodParameter, null, webRequest, null);
@@ -150,4 +163,94 @@ class AuthenticatedUserResolverTest {
     );
     assertEquals(USER_NOT_FOUND, exception.getErrorCode());
   }
+
+  @Test
+  @DisplayName("액세스 토큰은 처음에만 이메일로 조회하고 이후에는 캐시된 id로 조회한다.")
+  void resolveArgument_accessTokenUsesCachedUserId() throws NoSuchMethodException {
+    // given
+    MethodParameter accessParameter = new MethodParameter(
+        this.getClass().getDeclaredMethod("accessMethod", User.class), 0);
+    Claims claims = Jwts.claims().setSubject("test@example.com");
+    claims.put("type", JwtTokenType.ACCESS.name());
+    User user = User.builder().id(1L).email("test@example.com").build();
+
+    when(webRequest.getHeader("Authorization")).thenReturn("Bearer accessToken");
+    when(jwtUtil.validateToken("accessToken")).thenReturn(claims);
+    when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+    // when
+    Object first = resolver.resolveArgument(accessParameter, null, webRequest, null);
+    Object second = resolver.resolveArgument(accessParameter, null, webRequest, null);
+
+    // then
+    assertEquals(user, first);
+    assertEquals(user, second);
+    verify(userRepository, times(1)).findByEmail("test@example.com");
+    verify(userRepository, times(1)).findById(1L);
+  }
+
+  @Test
+  @DisplayName("캐시된 id의 사용자가 삭제되었으면 USER_NOT_FOUND를 발생시키고 캐시에서 제거한다.")
+  void resolveArgument_cachedUserDeleted() throws NoSuchMethodException {
+    // given
+    MethodParameter accessParameter = new MethodParameter(
+        this.getClass().getDeclaredMethod("accessMethod", User.class), 0);
+    Claims claims = Jwts.claims().setSubject("test@example.com");
+    claims.put("type", JwtTokenType.ACCESS.name());
+    authenticatedUserCache.put("test@example.com", 1L);
+
+    when(webRequest.getHeader("Authorization")).thenReturn("Bearer accessToken");
+    when(jwtUtil.validateToken("accessToken")).thenReturn(claims);
+    when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+    // when & then
+    CustomException exception = assertThrows(CustomException.class, () ->
+        resolver.resolveArgument(accessParameter, null, webRequest, null)
+    );
+    assertEquals(USER_NOT_FOUND, exception.getErrorCode());
+    assertNull(authenticatedUserCache.findUserId("test@example.com"));
+  }
+
+  @Test
+  @DisplayName("AuthPrincipal은 토큰의 userId 클레임으로 만들어 사용자를 조회하지 않는다.")
+  void resolveArgument_principalFromClaims() throws NoSuchMethodException {
+    // given
+    MethodParameter principalParameter = new MethodParameter(
+        this.getClass().getDeclaredMethod("principalMethod", AuthPrincipal.class), 0);
+    Claims claims = Jwts.claims().setSubject("test@example.com");
+    claims.put("type", JwtTokenType.ACCESS.name());
+    claims.put("userId", 1);  // JSON 역직렬화 시 작은 수는 Integer로 들어온다
+
+    when(webRequest.getHeader("Authorization")).thenReturn("Bearer accessToken");
+    when(jwtUtil.validateToken("accessToken")).thenReturn(claims);
+
+    // when
+    Object result = resolver.resolveArgument(principalParameter, null, webRequest, null);
+
+    // then
+    assertEquals(new AuthPrincipal(1L, "test@example.com"), result);
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  @DisplayName("userId 클레임이 없는 이전 토큰이면 이메일로 조회해 AuthPrincipal을 만든다.")
+  void resolveArgument_principalFromLegacyToken() throws NoSuchMethodException {
+    // given
+    MethodParameter principalParameter = new MethodParameter(
+        this.getClass().getDeclaredMethod("principalMethod", AuthPrincipal.class), 0);
+    Claims claims = Jwts.claims().setSubject("test@example.com");
+    claims.put("type", JwtTokenType.ACCESS.name());
+
+    when(webRequest.getHeader("Authorization")).thenReturn("Bearer accessToken");
+    when(jwtUtil.validateToken("accessToken")).thenReturn(claims);
+    when(userRepository.findByEmail("test@example.com")).thenReturn(
+        Optional.of(User.builder().id(1L).email("test@example.com").build()));
+
+    // when
+    Object result = resolver.resolveArgument(principalParameter, null, webRequest, null);
+
+    // then
+    assertEquals(new AuthPrincipal(1L, "test@example.com"), result);
+  }
 }
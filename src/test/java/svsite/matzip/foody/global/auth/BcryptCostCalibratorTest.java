@@ -0,0 +1,42 @@
+package svsite.matzip.foody.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BcryptCostCalibratorTest {
+
+  @Test
+  @DisplayName("최소 비용 측정값을 두 배씩 늘려 목표 시간 안에 드는 가장 큰 비용을 고른다")
+  void calibrate_withinTarget() {
+    // 비용 10에서 20ms -> 11: 40ms, 12: 80ms, 13: 160ms, 14: 320ms
+    int strength = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 16,
+        cost -> Duration.ofMillis(20).toNanos());
+
+    assertEquals(13, strength);
+  }
+
+  @Test
+  @DisplayName("여러 번 측정해 가장 빠른 값을 사용한다")
+  void calibrate_usesFastestSample() {
+    long[] samples = {Duration.ofMillis(200).toNanos(), Duration.ofMillis(20).toNanos(),
+        Duration.ofMillis(90).toNanos()};
+    int[] call = {0};
+
+    int strength = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 16,
+        cost -> samples[call[0]++]);
+
+    assertEquals(13, strength);
+  }
+
+  @Test
+  @DisplayName("계산한 비용은 최소/최대 비용 범위를 벗어나지 않는다")
+  void calibrate_clamped() {
+    assertEquals(10, BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 16,
+        cost -> Duration.ofSeconds(1).toNanos()));
+    assertEquals(16, BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 16,
+        cost -> Duration.ofNanos(100).toNanos()));
+  }
+}
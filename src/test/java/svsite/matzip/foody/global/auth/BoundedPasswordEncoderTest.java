@@ -0,0 +1,93 @@
+package svsite.matzip.foody.global.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import svsite.matzip.foody.global.exception.errorCode.ErrorCodes;
+import svsite.matzip.foody.global.exception.support.CustomException;
+
+class BoundedPasswordEncoderTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final BoundedPasswordEncoder encoder =
+      new BoundedPasswordEncoder(new BlockingPasswordEncoder(release), 1, 1, registry);
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    encoder.destroy();
+  }
+
+  @Test
+  @DisplayName("전용 스레드에서 해시한 결과를 호출한 스레드에 돌려준다")
+  void encodeAndMatches() {
+    release.countDown();
+
+    assertEquals("hashed:password", encoder.encode("password"));
+    assertThat(encoder.matches("password", "hashed:password")).isTrue();
+    assertThat(registry.get(BoundedPasswordEncoder.QUEUE_METRIC + ".wait").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("실행 중인 작업과 대기열이 가득 차면 기다리지 않고 AUTH_BUSY로 거절한다")
+  void rejectsWhenSaturated() throws Exception {
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+    awaitGauge(".active", 1);
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+    awaitGauge(".depth", 1);
+
+    CustomException exception = assertThrows(CustomException.class, () -> encoder.encode("third"));
+
+    assertEquals(ErrorCodes.AUTH_BUSY, exception.getErrorCode());
+    assertThat(registry.get(BoundedPasswordEncoder.REJECTED_METRIC).counter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+    assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  private void awaitGauge(String suffix, double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (registry.get(BoundedPasswordEncoder.QUEUE_METRIC + suffix).gauge().value() < expected) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError(suffix + " 게이지가 " + expected + "에 도달하지 않았습니다.");
+      }
+      Thread.sleep(5);
+    }
+  }
+
+  private record BlockingPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      await();
+      return "hashed:" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      await();
+      return encodedPassword.equals("hashed:" + rawPassword);
+    }
+
+    private void await() {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package svsite.matzip.foody.global.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenHasherTest {
+
+  private static final String SECRET = Base64.getEncoder().encodeToString("a".repeat(32).getBytes());
+
+  @Mock
+  private PasswordEncoder passwordEncoder;
+
+  private RefreshTokenHasher refreshTokenHasher;
+
+  @BeforeEach
+  void setup() {
+    refreshTokenHasher = new RefreshTokenHasher(SECRET, "", passwordEncoder);
+  }
+
+  @Test
+  @DisplayName("HMAC으로 저장한 리프레시 토큰은 BCrypt를 거치지 않고 검증한다")
+  void matches_hmac() {
+    String hashed = refreshTokenHasher.hash("refreshToken");
+
+    assertThat(hashed).startsWith(RefreshTokenHasher.PREFIX);
+    assertThat(refreshTokenHasher.matches("refreshToken", hashed)).isTrue();
+    assertThat(refreshTokenHasher.matches("otherToken", hashed)).isFalse();
+    verify(passwordEncoder, never()).matches(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 키로 만든 해시는 일치하지 않는다")
+  void matches_differentKey() {
+    String otherSecret = Base64.getEncoder().encodeToString("b".repeat(32).getBytes());
+    String hashed = new RefreshTokenHasher(otherSecret, "", passwordEncoder).hash("refreshToken");
+
+    assertThat(refreshTokenHasher.matches("refreshToken", hashed)).isFalse();
+  }
+
+  @Test
+  @DisplayName("별도 키가 없으면 JWT 서명 키를 그대로 쓰지 않고 파생한 키를 쓴다")
+  void derivesKeyFromJwtSecret() {
+    String otherSecret = Base64.getEncoder().encodeToString("b".repeat(32).getBytes());
+    RefreshTokenHasher signingKeyHasher = new RefreshTokenHasher(otherSecret, SECRET, passwordEncoder);
+    RefreshTokenHasher separateKeyHasher = new RefreshTokenHasher(SECRET, otherSecret, passwordEncoder);
+
+    assertThat(refreshTokenHasher.hash("refreshToken")).isNotEqualTo(signingKeyHasher.hash("refreshToken"));
+    assertThat(separateKeyHasher.matches("refreshToken", refreshTokenHasher.hash("refreshToken"))).isFalse();
+    assertThat(separateKeyHasher.matches("refreshToken", separateKeyHasher.hash("refreshToken"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("이전에 BCrypt로 저장한 리프레시 토큰은 PasswordEncoder로 검증한다")
+  void matches_legacyBcrypt() {
+    String legacy = "$2a$10$legacyHashedRefreshToken";
+    when(passwordEncoder.matches("refreshToken", legacy)).thenReturn(true);
+
+    assertThat(refreshTokenHasher.matches("refreshToken", legacy)).isTrue();
+  }
+
+  @Test
+  @DisplayName("저장된 값이 없거나 형식이 잘못되면 일치하지 않는다")
+  void matches_invalidStoredValue() {
+    assertThat(refreshTokenHasher.matches("refreshToken", null)).isFalse();
+    assertThat(refreshTokenHasher.matches("refreshToken", "")).isFalse();
+    assertThat(refreshTokenHasher.matches("refreshToken", RefreshTokenHasher.PREFIX + "!!!")).isFalse();
+  }
+}
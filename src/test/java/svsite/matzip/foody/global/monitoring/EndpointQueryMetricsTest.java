@@ -0,0 +1,80 @@
+package svsite.matzip.foody.global.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class EndpointQueryMetricsTest {
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new QueryMetricsDataSource(
+      new DriverManagerDataSource("jdbc:h2:mem:query-metrics;DB_CLOSE_DELAY=-1")));
+
+  @AfterEach
+  void tearDown() {
+    QueryStats.end();
+  }
+
+  @Test
+  @DisplayName("요청 중 실행된 SQL 수와 읽은 행 수를 기록한다")
+  void dataSourceRecordsStatementsAndRows() {
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS sample (id BIGINT)");
+    jdbcTemplate.update("DELETE FROM sample");
+    jdbcTemplate.batchUpdate("INSERT INTO sample VALUES (?)", List.of(new Object[]{1}, new Object[]{2},
+        new Object[]{3}));
+
+    QueryStats stats = QueryStats.begin();
+    jdbcTemplate.queryForList("SELECT id FROM sample", Long.class);
+    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sample", Long.class);
+
+    assertThat(stats.statements()).isEqualTo(2);
+    assertThat(stats.rows()).isEqualTo(4);
+    assertThat(stats.jdbcNanos()).isPositive();
+  }
+
+  @Test
+  @DisplayName("요청이 끝나면 컨트롤러 메서드 이름으로 메트릭을 남긴다")
+  void interceptorRecordsMetricsPerHandler() throws NoSuchMethodException {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("meterRegistry", registry);
+    EndpointQueryMetricsInterceptor interceptor = new EndpointQueryMetricsInterceptor(
+        beanFactory.getBeanProvider(MeterRegistry.class), 20, Duration.ofMillis(500));
+    HandlerMethod handler = new HandlerMethod(new SampleController(),
+        SampleController.class.getMethod("list"));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    interceptor.preHandle(request, response, handler);
+    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+    interceptor.afterCompletion(request, response, handler, null);
+
+    String endpoint = "SampleController.list";
+    assertThat(registry.get(EndpointQueryMetricsInterceptor.STATEMENTS_METRIC).tag("endpoint", endpoint)
+        .summary().totalAmount()).isEqualTo(1);
+    assertThat(registry.get(EndpointQueryMetricsInterceptor.ROWS_METRIC).tag("endpoint", endpoint)
+        .summary().totalAmount()).isEqualTo(1);
+    assertThat(registry.get(EndpointQueryMetricsInterceptor.TIME_METRIC).tag("endpoint", endpoint)
+        .timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    assertThat(QueryStats.current()).isNull();
+  }
+
+  static class SampleController {
+
+    public String list() {
+      return "ok";
+    }
+  }
+}
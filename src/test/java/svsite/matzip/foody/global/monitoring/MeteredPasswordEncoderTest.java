@@ -0,0 +1,32 @@
+package svsite.matzip.foody.global.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class MeteredPasswordEncoderTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final MeteredPasswordEncoder encoder =
+      new MeteredPasswordEncoder(new BCryptPasswordEncoder(4), registry);
+
+  @Test
+  @DisplayName("해시 생성과 검증 결과별 횟수를 기록한다")
+  void recordsEncodeAndVerify() {
+    String hash = encoder.encode("password");
+
+    assertThat(encoder.matches("password", hash)).isTrue();
+    assertThat(encoder.matches("wrong", hash)).isFalse();
+    assertThat(encoder.matches("wrong", hash)).isFalse();
+
+    assertThat(registry.get(MeteredPasswordEncoder.ENCODE_METRIC).timer().count()).isEqualTo(1);
+    assertThat(registry.get(MeteredPasswordEncoder.VERIFY_METRIC).tag("result", "match").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get(MeteredPasswordEncoder.VERIFY_METRIC).tag("result", "mismatch").timer().count())
+        .isEqualTo(2);
+  }
+}
@@ -0,0 +1,36 @@
+package svsite.matzip.foody.global.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  @Test
+  @DisplayName("애플리케이션 코드의 첫 호출 위치를 pinning 위치로 쓴다")
+  void site_firstApplicationFrame() {
+    List<StackTraceElement> frames = List.of(
+        frame("java.lang.Object", "wait0"),
+        frame("software.amazon.awssdk.core.Client", "execute"),
+        frame("svsite.matzip.foody.global.util.file.service.S3FileStorageService", "saveFile"),
+        frame("svsite.matzip.foody.global.util.file.service.FileUploadService", "uploadFiles"));
+
+    assertThat(VirtualThreadPinningMonitor.site(frames)).isEqualTo("S3FileStorageService.saveFile");
+  }
+
+  @Test
+  @DisplayName("애플리케이션 프레임이 없으면 가장 위 프레임을, 프레임이 없으면 unknown을 쓴다")
+  void site_fallbacks() {
+    assertThat(VirtualThreadPinningMonitor.site(List.of(
+        frame("java.lang.Object", "wait0"),
+        frame("java.lang.Thread", "run"))))
+        .isEqualTo("Object.wait0");
+    assertThat(VirtualThreadPinningMonitor.site(List.of())).isEqualTo("unknown");
+  }
+
+  private static StackTraceElement frame(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, 1);
+  }
+}
@@ -0,0 +1,51 @@
+package svsite.matzip.foody.global.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final ExpiringLruCache<String, Long> cache =
+      new ExpiringLruCache<>(2, Duration.ofSeconds(10), now::get);
+
+  @Test
+  @DisplayName("ttl이 지난 항목은 조회되지 않는다")
+  void expiresAfterTtl() {
+    cache.put("a", 1L);
+
+    now.addAndGet(Duration.ofSeconds(9).toNanos());
+    assertThat(cache.get("a")).isEqualTo(1L);
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+  void evictsLeastRecentlyUsed() {
+    cache.put("a", 1L);
+    cache.put("b", 2L);
+    cache.get("a");
+    cache.put("c", 3L);
+
+    assertThat(cache.get("a")).isEqualTo(1L);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("무효화한 항목은 조회되지 않는다")
+  void invalidate() {
+    cache.put("a", 1L);
+
+    cache.invalidate("a");
+
+    assertThat(cache.get("a")).isNull();
+  }
+}
@@ -8,12 +8,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +41,12 @@ class FileUploadServiceTest {
   @Mock
   private ImageConfig imageConfig;
 
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Spy
+  private FileUploadExecutor fileUploadExecutor = new FileUploadExecutor(2, 8);
+
   @Test
   @DisplayName("이미지를 성공적으로 업로드한다")
   void uploadFiles_Success() {
@@ -54,6 +68,105 @@ class FileUploadServiceTest {
     assertTrue(uploadedUrls.contains("http://localhost/uploads/saved-file.jpg"));
 
     verify(fileStorageService, times(2)).saveFile(any(MultipartFile.class));
+    assertEquals(24, meterRegistry.get("upload.bytes").summary().totalAmount());
+    assertEquals(2, meterRegistry.get("upload.file").tag("outcome", "success").timer().count());
+  }
+
+  @Test
+  @DisplayName("여러 파일을 동시에 저장하고 요청한 순서대로 URL을 반환한다")
+  void uploadFiles_Concurrent() {
+    // given
+    MultipartFile mockFile1 = new MockMultipartFile("file1", "image1.jpg", "image/jpeg", "test-image-1".getBytes());
+    MultipartFile mockFile2 = new MockMultipartFile("file2", "image2.jpg", "image/jpeg", "test-image-2".getBytes());
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    when(imageConfig.getMaxImageCount()).thenReturn(5);
+    when(imageConfig.getMaxImageSize()).thenReturn(10_000_000L);
+    when(fileStorageService.saveFile(any(MultipartFile.class))).thenAnswer(invocation -> {
+      bothStarted.countDown();
+      // 두 파일이 동시에 저장 중이어야 래치가 열린다
+      assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "두 파일이 동시에 저장되어야 합니다.");
+      return invocation.<MultipartFile>getArgument(0).getOriginalFilename();
+    });
+    when(fileStorageService.getFileUrl(anyString())).thenAnswer(invocation -> "http://localhost/uploads/" + invocation.getArgument(0));
+
+    // when
+    List<String> uploadedUrls = fileUploadService.uploadFiles(List.of(mockFile1, mockFile2));
+
+    // then
+    assertEquals(List.of("http://localhost/uploads/image1.jpg", "http://localhost/uploads/image2.jpg"), uploadedUrls);
+  }
+
+  @Test
+  @DisplayName("일부 파일 저장에 실패하면 이미 저장한 파일을 삭제하고 예외를 발생시킨다")
+  void uploadFiles_PartialFailureDeletesStoredFiles() {
+    // given
+    MultipartFile mockFile1 = new MockMultipartFile("file1", "image1.jpg", "image/jpeg", "test-image-1".getBytes());
+    MultipartFile failingFile = new MockMultipartFile("file2", "image2.jpg", "image/jpeg", "test-image-2".getBytes());
+    MultipartFile mockFile3 = new MockMultipartFile("file3", "image3.jpg", "image/jpeg", "test-image-3".getBytes());
+    List<String> storedFiles = new CopyOnWriteArrayList<>();
+
+    when(imageConfig.getMaxImageCount()).thenReturn(5);
+    when(imageConfig.getMaxImageSize()).thenReturn(10_000_000L);
+    when(fileStorageService.saveFile(any(MultipartFile.class))).thenAnswer(invocation -> {
+      MultipartFile file = invocation.getArgument(0);
+      if (file == failingFile) {
+        throw new FileStorageException("파일 저장 중 오류 발생");
+      }
+      storedFiles.add(file.getOriginalFilename());
+      return file.getOriginalFilename();
+    });
+
+    // when & then
+    FileStorageException exception = assertThrows(FileStorageException.class,
+        () -> fileUploadService.uploadFiles(List.of(mockFile1, failingFile, mockFile3)));
+    assertEquals("파일 저장 중 오류 발생", exception.getMessage());
+
+    storedFiles.forEach(fileName -> verify(fileStorageService).deleteFile(fileName));
+    verify(fileStorageService, never()).getFileUrl(anyString());
+  }
+
+  @Test
+  @DisplayName("업로드 중 인터럽트되면 진행 중인 저장이 끝나길 기다려 모두 삭제하고 인터럽트 상태를 복원한다")
+  void uploadFiles_InterruptedDeletesAllStoredFiles() throws Exception {
+    // given
+    MultipartFile mockFile1 = new MockMultipartFile("file1", "image1.jpg", "image/jpeg", "test-image-1".getBytes());
+    MultipartFile mockFile2 = new MockMultipartFile("file2", "image2.jpg", "image/jpeg", "test-image-2".getBytes());
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+
+    when(imageConfig.getMaxImageCount()).thenReturn(5);
+    when(imageConfig.getMaxImageSize()).thenReturn(10_000_000L);
+    when(fileStorageService.saveFile(any(MultipartFile.class))).thenAnswer(invocation -> {
+      bothStarted.countDown();
+      release.await();
+      return invocation.<MultipartFile>getArgument(0).getOriginalFilename();
+    });
+
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    AtomicBoolean interruptRestored = new AtomicBoolean();
+    Thread uploader = new Thread(() -> {
+      try {
+        fileUploadService.uploadFiles(List.of(mockFile1, mockFile2));
+      } catch (Throwable e) {
+        thrown.set(e);
+      }
+      interruptRestored.set(Thread.currentThread().isInterrupted());
+    });
+
+    // when
+    uploader.start();
+    assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "두 파일이 저장 중이어야 합니다.");
+    uploader.interrupt();
+    release.countDown();  // 인터럽트 이후에 저장이 끝난다
+    uploader.join(5_000);
+
+    // then
+    assertInstanceOf(FileStorageException.class, thrown.get());
+    assertTrue(interruptRestored.get(), "인터럽트 상태가 복원되어야 합니다.");
+    verify(fileStorageService).deleteFile("image1.jpg");
+    verify(fileStorageService).deleteFile("image2.jpg");
+    verify(fileStorageService, never()).getFileUrl(anyString());
   }
 
   @Test
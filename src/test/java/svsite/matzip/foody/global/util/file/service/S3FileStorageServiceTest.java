@@ -0,0 +1,131 @@
+package svsite.matzip.foody.global.util.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+class S3FileStorageServiceTest {
+
+  @InjectMocks
+  private S3FileStorageService s3FileStorageService;
+
+  @Mock
+  private S3Client s3Client;
+
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(s3FileStorageService, "bucketName", "bucket");
+    ReflectionTestUtils.setField(s3FileStorageService, "multipartThreshold", 8L);
+    ReflectionTestUtils.setField(s3FileStorageService, "partSize", 4);
+  }
+
+  @Test
+  @DisplayName("기준 이하 파일은 크기를 지정해 PutObject 한 번으로 업로드한다")
+  void saveFile_put() throws IOException {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", "12345678".getBytes());
+    ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+    ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+
+    // when
+    String fileName = s3FileStorageService.saveFile(file);
+
+    // then
+    assertThat(fileName).endsWith(".jpg");
+    verify(s3Client).putObject(request.capture(), body.capture());
+    assertThat(request.getValue().contentLength()).isEqualTo(8L);
+    assertThat(read(body.getValue())).isEqualTo("12345678");
+    verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("기준보다 큰 파일은 파트 크기만큼 나눠 멀티파트로 업로드한다")
+  void saveFile_multipart() throws IOException {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", "0123456789".getBytes());
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    List<String> partContents = new ArrayList<>();
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+      UploadPartRequest request = invocation.getArgument(0);
+      partContents.add(read(invocation.getArgument(1)));  // 버퍼를 재사용하므로 호출 시점에 읽는다
+      return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    });
+    ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+        ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+
+    // when
+    s3FileStorageService.saveFile(file);
+
+    // then
+    assertThat(partContents).containsExactly("0123", "4567", "89");
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    assertThat(complete.getValue().uploadId()).isEqualTo("upload-1");
+    assertThat(complete.getValue().multipartUpload().parts())
+        .extracting("partNumber", "eTag")
+        .containsExactly(
+            tuple(1, "etag-1"),
+            tuple(2, "etag-2"),
+            tuple(3, "etag-3"));
+    verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+  }
+
+  @Test
+  @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소한다")
+  void saveFile_multipartAbortedOnFailure() {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", "0123456789".getBytes());
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenThrow(S3Exception.builder().message("part failed").build());
+
+    // when & then
+    assertThrows(S3Exception.class, () -> s3FileStorageService.saveFile(file));
+    verify(s3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  private static String read(RequestBody body) throws IOException {
+    try (InputStream in = body.contentStreamProvider().newStream()) {
+      return new String(in.readAllBytes());
+    }
+  }
+}
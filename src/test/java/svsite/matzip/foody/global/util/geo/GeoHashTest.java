@@ -0,0 +1,85 @@
+package svsite.matzip.foody.global.util.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+  @Test
+  @DisplayName("알려진 좌표를 표준 geohash로 인코딩한다")
+  void encode_knownVectors() {
+    assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    assertThat(GeoHash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+    assertThat(GeoHash.encode(0, 0, 1)).isEqualTo("s");  // 경계 위의 점은 동쪽/북쪽 셀에 속한다
+    assertThat(GeoHash.encode(57.64911, 10.40744)).hasSize(GeoHash.MAX_PRECISION)
+        .startsWith("u4pruydqqvj");
+  }
+
+  @Test
+  @DisplayName("영역보다 크거나 같은 셀 중 가장 작은 정밀도를 고른다")
+  void precisionFor() {
+    int precision = GeoHash.precisionFor(1.0, 1.0);
+
+    assertThat(precision).isEqualTo(3);
+    assertThat(GeoHash.cellHeight(precision)).isGreaterThanOrEqualTo(1.0);
+    assertThat(GeoHash.cellWidth(precision)).isGreaterThanOrEqualTo(1.0);
+    assertThat(GeoHash.cellHeight(precision + 1)).isLessThan(1.0);
+  }
+
+  @Test
+  @DisplayName("아주 작은 영역은 최대 정밀도, 셀 하나보다 큰 영역은 정밀도 0(전체 범위)을 쓴다")
+  void precisionFor_extremes() {
+    assertThat(GeoHash.precisionFor(0, 0)).isEqualTo(GeoHash.MAX_PRECISION);
+    assertThat(GeoHash.precisionFor(100, 200)).isZero();
+    assertThat(GeoHash.coveringCells(-50, -100, 50, 100)).containsExactly("");
+    assertThat(GeoHash.upperBound("")).isEqualTo("z".repeat(GeoHash.MAX_PRECISION));
+  }
+
+  @Test
+  @DisplayName("덮는 셀 범위에 영역의 네 모서리와 내부의 점이 모두 포함된다")
+  void coveringCells_containCornersAndInterior() {
+    double minLatitude = 37.50, minLongitude = 126.90, maxLatitude = 37.60, maxLongitude = 127.05;
+    List<String> cells = GeoHash.coveringCells(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+    assertThat(cells).hasSizeBetween(1, 4);
+    for (int i = 0; i <= 10; i++) {
+      for (int j = 0; j <= 10; j++) {
+        double latitude = minLatitude + (maxLatitude - minLatitude) * i / 10;
+        double longitude = minLongitude + (maxLongitude - minLongitude) * j / 10;
+        assertThat(covered(cells, latitude, longitude))
+            .as("(%s, %s)", latitude, longitude)
+            .isTrue();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("셀 경계에 걸친 영역은 경계 양쪽의 셀을 모두 덮고, 경계 위의 점도 포함된다")
+  void coveringCells_acrossCellEdges() {
+    List<String> cells = GeoHash.coveringCells(-0.1, -0.1, 0.1, 0.1);
+
+    assertThat(cells).hasSize(4);
+    assertThat(covered(cells, 0, 0)).isTrue();
+    assertThat(covered(cells, 0, -0.1)).isTrue();
+    assertThat(covered(cells, -0.1, 0)).isTrue();
+    assertThat(covered(cells, 0.1, 0.1)).isTrue();
+    assertThat(covered(cells, -0.1, -0.1)).isTrue();
+  }
+
+  @Test
+  @DisplayName("셀은 영역보다 넓으므로 영역 밖의 점도 셀 범위에 들어올 수 있다 (위경도 조건으로 걸러야 한다)")
+  void coveringCells_mayIncludePointsOutsideBounds() {
+    List<String> cells = GeoHash.coveringCells(37.50, 126.90, 37.60, 127.05);
+
+    assertThat(covered(cells, 37.601, 127.0)).isTrue();
+  }
+
+  private static boolean covered(List<String> cells, double latitude, double longitude) {
+    String hash = GeoHash.encode(latitude, longitude);
+    return cells.stream()
+        .anyMatch(cell -> hash.compareTo(cell) >= 0 && hash.compareTo(GeoHash.upperBound(cell)) <= 0);
+  }
+}
@@ -0,0 +1,69 @@
+package svsite.matzip.foody.global.util.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import svsite.matzip.foody.global.util.jwt.exception.InvalidJwtTokenException;
+
+class JwtUtilTest {
+
+  private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JwtUtil jwtUtil = createJwtUtil('a', meterRegistry);
+
+  @Test
+  @DisplayName("같은 액세스 토큰을 다시 검증하면 캐시된 클레임을 반환한다")
+  void validateToken_cachesAccessToken() {
+    String token = jwtUtil.generateAccessToken(payload());
+
+    Claims first = jwtUtil.validateToken(token);
+    Claims second = jwtUtil.validateToken(token);
+
+    assertThat(second).isEqualTo(first).isNotSameAs(first);  // 요청마다 캐시와 분리된 사본을 받는다
+    assertThat(second.getSubject()).isEqualTo("test@example.com");
+    assertThat(meterRegistry.counter("auth.jwt.cache.hits").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("auth.jwt.parses", "result", "valid").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("클레임이 같아도 서명이 다른 토큰은 캐시되지 않고 검증에 실패한다")
+  void validateToken_rejectsForgedTokenAfterCaching() {
+    String token = jwtUtil.generateAccessToken(payload());
+    String forged = createJwtUtil('b', new SimpleMeterRegistry()).generateAccessToken(payload());
+    jwtUtil.validateToken(token);
+
+    assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.validateToken(forged));
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰은 검증 캐시에 저장하지 않는다")
+  void validateToken_doesNotCacheRefreshToken() {
+    String token = jwtUtil.generateRefreshToken(payload());
+
+    jwtUtil.validateToken(token);
+    jwtUtil.validateToken(token);
+
+    assertThat(meterRegistry.counter("auth.jwt.cache.hits").count()).isZero();
+    assertThat(meterRegistry.counter("auth.jwt.parses", "result", "valid").count()).isEqualTo(2);
+  }
+
+  private static JwtUtil createJwtUtil(char secretChar, SimpleMeterRegistry meterRegistry) {
+    String secret = Base64.getEncoder().encodeToString(String.valueOf(secretChar).repeat(32).getBytes());
+    return new JwtUtil(secret, ONE_HOUR, ONE_HOUR, 100, meterRegistry);
+  }
+
+  private static Map<String, Object> payload() {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("userId", 1L);
+    payload.put("email", "test@example.com");
+    return payload;
+  }
+}
@@ -0,0 +1,79 @@
+package svsite.matzip.foody.global.util.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+  private final VerifiedTokenCache cache = new VerifiedTokenCache(2, now::get);
+
+  @Test
+  @DisplayName("토큰의 exp가 지나면 캐시된 클레임을 반환하지 않는다")
+  void expiresAtTokenExpiration() {
+    cache.put("token", claimsExpiringAt(now.get() + 1000));
+
+    now.addAndGet(999);
+    assertThat(cache.get("token")).isNotNull();
+
+    now.addAndGet(1);
+    assertThat(cache.get("token")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("저장 후 원본이나 반환된 클레임을 바꿔도 캐시된 클레임은 바뀌지 않는다")
+  void isolatesCachedClaims() {
+    Claims claims = claimsExpiringAt(now.get() + 1000).setSubject("test@example.com");
+    cache.put("token", claims);
+
+    claims.setSubject("changed@example.com");
+    cache.get("token").setSubject("other@example.com");
+
+    Claims cached = cache.get("token");
+    assertThat(cached.getSubject()).isEqualTo("test@example.com");
+    assertThat(cached).isNotSameAs(cache.get("token"));
+  }
+
+  @Test
+  @DisplayName("exp가 없는 토큰은 저장하지 않는다")
+  void skipsTokenWithoutExpiration() {
+    cache.put("token", Jwts.claims().setSubject("test@example.com"));
+
+    assertThat(cache.get("token")).isNull();
+  }
+
+  @Test
+  @DisplayName("가득 차면 만료된 항목부터 지우고 최대 개수를 넘지 않는다")
+  void prunesWhenFull() {
+    cache.put("expiring", claimsExpiringAt(now.get() + 10));
+    cache.put("a", claimsExpiringAt(now.get() + 1000));
+    now.addAndGet(10);
+
+    cache.put("b", claimsExpiringAt(now.get() + 1000));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isNotNull();
+    assertThat(cache.get("b")).isNotNull();
+  }
+
+  @Test
+  @DisplayName("크기가 0이면 캐시하지 않는다")
+  void disabledWhenSizeIsZero() {
+    VerifiedTokenCache disabled = new VerifiedTokenCache(0, now::get);
+
+    disabled.put("token", claimsExpiringAt(now.get() + 1000));
+
+    assertThat(disabled.get("token")).isNull();
+  }
+
+  private Claims claimsExpiringAt(long expiresAt) {
+    return Jwts.claims().setSubject("test@example.com").setExpiration(new Date(expiresAt));
+  }
+}